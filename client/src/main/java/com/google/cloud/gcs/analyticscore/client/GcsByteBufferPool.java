@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded pool of reusable {@link ByteBuffer}s shared by all streams opened through a {@link
+ * GcsFileSystem}.
+ *
+ * <p>Buffers are grouped in power-of-two size classes from 4 KB to 16 MB, so a requested size is
+ * served by a buffer of the next size class with its limit set to the requested size. Requests
+ * larger than the biggest size class are allocated directly and never pooled. Heap and direct
+ * buffers are pooled separately but share the same limit on the total size of idle buffers; a
+ * released buffer is dropped once that limit is reached.
+ */
+public class GcsByteBufferPool {
+  private static final int MIN_SIZE_CLASS_SHIFT = 12; // 4 KB
+  private static final int MAX_SIZE_CLASS_SHIFT = 24; // 16 MB
+
+  private final long maxPooledBytes;
+  private final AtomicLong pooledBytes = new AtomicLong();
+  private final List<Queue<ByteBuffer>> heapBuffers = createSizeClasses();
+  private final List<Queue<ByteBuffer>> directBuffers = createSizeClasses();
+
+  GcsByteBufferPool(long maxPooledBytes) {
+    checkArgument(maxPooledBytes > 0, "Buffer pool size must be positive, got %s", maxPooledBytes);
+    this.maxPooledBytes = maxPooledBytes;
+  }
+
+  /** Returns a heap buffer with {@code size} bytes remaining. */
+  public ByteBuffer allocate(int size) {
+    return getBuffer(size, /* direct= */ false);
+  }
+
+  /** Returns a direct buffer with {@code size} bytes remaining. */
+  public ByteBuffer allocateDirect(int size) {
+    return getBuffer(size, /* direct= */ true);
+  }
+
+  /**
+   * Returns a buffer obtained from this pool so it can be reused. The caller must not access the
+   * buffer, or any view of it, after releasing it.
+   */
+  public void release(ByteBuffer buffer) {
+    checkNotNull(buffer, "buffer must not be null");
+    int sizeClass = sizeClassOf(buffer);
+    if (sizeClass < 0) {
+      return;
+    }
+    int capacity = buffer.capacity();
+    if (pooledBytes.addAndGet(capacity) > maxPooledBytes) {
+      pooledBytes.addAndGet(-capacity);
+      return;
+    }
+    buffer.clear();
+    sizeClasses(buffer.isDirect()).get(sizeClass).offer(buffer);
+  }
+
+  /** Returns the total capacity of the idle buffers held by the pool. */
+  public long getPooledBytes() {
+    return pooledBytes.get();
+  }
+
+  private ByteBuffer getBuffer(int size, boolean direct) {
+    checkArgument(size >= 0, "Buffer size must not be negative, got %s", size);
+    if (size > 1 << MAX_SIZE_CLASS_SHIFT) {
+      return direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+    }
+    int sizeClass = sizeClassFor(size);
+    ByteBuffer buffer = sizeClasses(direct).get(sizeClass).poll();
+    if (buffer == null) {
+      int capacity = 1 << (sizeClass + MIN_SIZE_CLASS_SHIFT);
+      buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    } else {
+      pooledBytes.addAndGet(-buffer.capacity());
+    }
+    buffer.limit(size);
+    return buffer;
+  }
+
+  private List<Queue<ByteBuffer>> sizeClasses(boolean direct) {
+    return direct ? directBuffers : heapBuffers;
+  }
+
+  private static int sizeClassFor(int size) {
+    int shift = 32 - Integer.numberOfLeadingZeros(Math.max(size, 1) - 1);
+    return Math.max(shift, MIN_SIZE_CLASS_SHIFT) - MIN_SIZE_CLASS_SHIFT;
+  }
+
+  /** Returns the size class of a buffer handed out by this pool, or -1 if it cannot be pooled. */
+  private static int sizeClassOf(ByteBuffer buffer) {
+    int capacity = buffer.capacity();
+    if (buffer.isReadOnly()
+        || Integer.bitCount(capacity) != 1
+        || capacity < 1 << MIN_SIZE_CLASS_SHIFT
+        || capacity > 1 << MAX_SIZE_CLASS_SHIFT) {
+      return -1;
+    }
+    return Integer.numberOfTrailingZeros(capacity) - MIN_SIZE_CLASS_SHIFT;
+  }
+
+  private static List<Queue<ByteBuffer>> createSizeClasses() {
+    List<Queue<ByteBuffer>> sizeClasses = new ArrayList<>();
+    for (int shift = MIN_SIZE_CLASS_SHIFT; shift <= MAX_SIZE_CLASS_SHIFT; shift++) {
+      sizeClasses.add(new ConcurrentLinkedQueue<>());
+    }
+    return sizeClasses;
+  }
+}
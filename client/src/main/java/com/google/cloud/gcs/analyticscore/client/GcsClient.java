@@ -17,6 +17,9 @@ package com.google.cloud.gcs.analyticscore.client;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @VisibleForTesting
 public interface GcsClient {
@@ -31,6 +34,52 @@ public interface GcsClient {
   /** Fetches object metadata. */
   GcsItemInfo getGcsItemInfo(GcsItemId itemId) throws IOException;
 
+  /**
+   * Fetches the metadata of several objects concurrently.
+   *
+   * @param itemIds the objects to fetch the metadata of.
+   * @param maxConcurrency maximum number of metadata requests in flight at the same time.
+   * @return one future per item id, in the same order, completed with the metadata of the object or
+   *     with the reason it could not be fetched.
+   */
+  List<CompletableFuture<GcsItemInfo>> getGcsItemInfos(List<GcsItemId> itemIds, int maxConcurrency);
+
+  /**
+   * Lists the objects of a bucket whose name starts with a prefix, in lexicographic order.
+   *
+   * @param prefix bucket to list, with the object name prefix if any.
+   * @param pageSize maximum number of objects fetched per request.
+   * @return the metadata of the listed objects. The next page is fetched in the background while
+   *     the current one is consumed, failures to fetch it are thrown as {@link
+   *     java.io.UncheckedIOException}.
+   * @throws IOException if the first page cannot be fetched.
+   */
+  Iterator<GcsItemInfo> listGcsItemInfos(GcsItemId prefix, int pageSize) throws IOException;
+
+  /**
+   * Lists the objects of a bucket whose name starts with a prefix, in lexicographic order, by
+   * splitting the key space into shards that are listed concurrently.
+   *
+   * @param prefix bucket to list, with the object name prefix if any.
+   * @param splitPoints object names at which a new shard starts.
+   * @param maxConcurrency maximum number of shards listed or buffered at the same time.
+   * @param pageSize maximum number of objects fetched per request.
+   * @return the metadata of the listed objects. Failures to list a shard are thrown as {@link
+   *     java.io.UncheckedIOException}.
+   */
+  Iterator<GcsItemInfo> listGcsItemInfos(
+      GcsItemId prefix, List<String> splitPoints, int maxConcurrency, int pageSize);
+
+  /**
+   * Lists the directories directly under a prefix, that is the distinct object name prefixes ending
+   * at the first {@code /} after it.
+   *
+   * @param prefix bucket to list, with the object name prefix if any.
+   * @return the object name prefixes of the directories, in lexicographic order.
+   * @throws IOException if the directories cannot be listed.
+   */
+  List<String> listGcsDirectories(GcsItemId prefix) throws IOException;
+
   /** Close the client. */
   void close();
 }
@@ -18,6 +18,7 @@ package com.google.cloud.gcs.analyticscore.client;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.api.gax.paging.Page;
 import com.google.api.gax.rpc.FixedHeaderProvider;
 import com.google.auth.Credentials;
 import com.google.cloud.storage.*;
@@ -25,10 +26,21 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,24 +48,64 @@ class GcsClientImpl implements GcsClient {
   private static final Logger LOG = LoggerFactory.getLogger(GcsClientImpl.class);
   private static final List<Storage.BlobField> BLOB_METADATA_FIELDS =
       ImmutableList.of(Storage.BlobField.GENERATION, Storage.BlobField.SIZE);
+  private static final long LOOKUP_RETRY_DELAY_MILLIS = 10;
 
   @VisibleForTesting Storage storage;
   private final GcsClientOptions clientOptions;
+  private final GcsFileSystemOptions.ClientType clientType;
   private Supplier<ExecutorService> executorServiceSupplier;
+  private final Optional<GcsConcurrencyLimiter> concurrencyLimiter;
+  private final GcsLatencyTracker firstByteLatencies = new GcsLatencyTracker();
+  private final GcsMergeGapTuner mergeGapTuner = new GcsMergeGapTuner();
+  // Hands delayed tasks, e.g. hedged requests, over to the read executor. Its thread is only
+  // started by the first task, and stopped on close.
+  private final ScheduledExecutorService timer =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("gcs-client-timer-%d").setDaemon(true).build());
 
   GcsClientImpl(
       Credentials credentials,
       GcsClientOptions clientOptions,
       Supplier<ExecutorService> executorServiceSupplier) {
+    this(
+        credentials,
+        clientOptions,
+        executorServiceSupplier,
+        Optional.empty(),
+        GcsFileSystemOptions.ClientType.HTTP_CLIENT);
+  }
+
+  GcsClientImpl(
+      Credentials credentials,
+      GcsClientOptions clientOptions,
+      Supplier<ExecutorService> executorServiceSupplier,
+      Optional<GcsConcurrencyLimiter> concurrencyLimiter,
+      GcsFileSystemOptions.ClientType clientType) {
     this.clientOptions = clientOptions;
+    this.clientType = checkNotNull(clientType, "clientType should not be null");
     this.storage = createStorage(Optional.of(credentials));
     this.executorServiceSupplier = executorServiceSupplier;
+    this.concurrencyLimiter = concurrencyLimiter;
   }
 
   GcsClientImpl(GcsClientOptions clientOptions, Supplier<ExecutorService> executorServiceSupplier) {
+    this(
+        clientOptions,
+        executorServiceSupplier,
+        Optional.empty(),
+        GcsFileSystemOptions.ClientType.HTTP_CLIENT);
+  }
+
+  GcsClientImpl(
+      GcsClientOptions clientOptions,
+      Supplier<ExecutorService> executorServiceSupplier,
+      Optional<GcsConcurrencyLimiter> concurrencyLimiter,
+      GcsFileSystemOptions.ClientType clientType) {
     this.clientOptions = clientOptions;
+    this.clientType = checkNotNull(clientType, "clientType should not be null");
     this.storage = createStorage(Optional.empty());
     this.executorServiceSupplier = executorServiceSupplier;
+    this.concurrencyLimiter = concurrencyLimiter;
   }
 
   @Override
@@ -65,7 +117,15 @@ class GcsClientImpl implements GcsClient {
         gcsItemInfo.getItemId().isGcsObject(),
         "Expected GCS object to be provided. But got: " + gcsItemInfo.getItemId());
 
-    return new GcsReadChannel(storage, gcsItemInfo, readOptions, executorServiceSupplier);
+    return new GcsReadChannel(
+        storage,
+        gcsItemInfo,
+        readOptions,
+        executorServiceSupplier,
+        concurrencyLimiter,
+        firstByteLatencies,
+        mergeGapTuner,
+        Optional.of(timer));
   }
 
   @Override
@@ -73,7 +133,15 @@ class GcsClientImpl implements GcsClient {
       GcsItemId gcsItemId, GcsReadOptions readOptions) throws IOException {
     checkNotNull(gcsItemId, "gcsItemId should not be null");
     checkNotNull(readOptions, "readOptions should not be null");
-    return new GcsReadChannel(storage, gcsItemId, readOptions, executorServiceSupplier) {
+    return new GcsReadChannel(
+        storage,
+        gcsItemId,
+        readOptions,
+        executorServiceSupplier,
+        concurrencyLimiter,
+        firstByteLatencies,
+        mergeGapTuner,
+        Optional.of(timer)) {
       @Override
       public long size() throws IOException {
         if (itemInfo == null) {
@@ -95,8 +163,203 @@ class GcsClientImpl implements GcsClient {
         String.format("Expected gcs object but got %s", itemId));
   }
 
+  @Override
+  public List<CompletableFuture<GcsItemInfo>> getGcsItemInfos(
+      List<GcsItemId> itemIds, int maxConcurrency) {
+    checkNotNull(itemIds, "Item IDs must not be null.");
+    checkArgument(maxConcurrency > 0, "Max concurrency must be positive, got %s", maxConcurrency);
+    List<GcsItemId> pendingItemIds = new ArrayList<>(itemIds);
+    List<CompletableFuture<GcsItemInfo>> itemInfos = new ArrayList<>(pendingItemIds.size());
+    for (int i = 0; i < pendingItemIds.size(); i++) {
+      itemInfos.add(new CompletableFuture<>());
+    }
+    // Each of up to maxConcurrency lookup chains hands the next item nobody has taken yet to a new
+    // task, so the batch never holds a read thread for more than one lookup at a time.
+    AtomicInteger nextItem = new AtomicInteger();
+    ExecutorService executorService = executorServiceSupplier.get();
+    int chainCount = Math.min(maxConcurrency, pendingItemIds.size());
+    for (int chain = 0; chain < chainCount; chain++) {
+      int item = nextItem.getAndIncrement();
+      if (item >= pendingItemIds.size()) {
+        // A failed chain start has failed every pending item.
+        break;
+      }
+      startItemInfoLookUps(item, pendingItemIds, itemInfos, nextItem, executorService);
+    }
+    return ImmutableList.copyOf(itemInfos);
+  }
+
+  /**
+   * Submits a lookup chain starting at the item at {@code index}. Unlike the lookups it chains, it
+   * never runs on the calling thread: while the read queue is full, the submission is retried on
+   * the timer.
+   */
+  private void startItemInfoLookUps(
+      int index,
+      List<GcsItemId> itemIds,
+      List<CompletableFuture<GcsItemInfo>> itemInfos,
+      AtomicInteger nextItem,
+      ExecutorService executorService) {
+    try {
+      executorService.execute(
+          GcsReadScheduler.discardable(
+              GcsReadScheduler.Priority.NORMAL,
+              /* channelSequence= */ index,
+              () -> lookUpItemInfos(index, itemIds, itemInfos, nextItem, executorService)));
+    } catch (RejectedExecutionException e) {
+      if (executorService.isShutdown()) {
+        // Fail the items rather than leave them pending.
+        failItemInfos(index, itemInfos, nextItem, e);
+        return;
+      }
+      try {
+        var unused =
+            timer.schedule(
+                () -> startItemInfoLookUps(index, itemIds, itemInfos, nextItem, executorService),
+                LOOKUP_RETRY_DELAY_MILLIS,
+                TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException closed) {
+        failItemInfos(index, itemInfos, nextItem, closed);
+      }
+    }
+  }
+
+  /**
+   * Looks up the metadata of the item at {@code index}, then submits the lookup of the next
+   * pending item. When a saturated executor rejects it, the next item is looked up on the current
+   * thread instead, which is what the executor would do without growing the stack.
+   */
+  private void lookUpItemInfos(
+      int index,
+      List<GcsItemId> itemIds,
+      List<CompletableFuture<GcsItemInfo>> itemInfos,
+      AtomicInteger nextItem,
+      ExecutorService executorService) {
+    int item = index;
+    while (item < itemIds.size()) {
+      try {
+        itemInfos.get(item).complete(getGcsItemInfo(itemIds.get(item)));
+      } catch (IOException | RuntimeException e) {
+        itemInfos.get(item).completeExceptionally(e);
+      }
+      item = nextItem.getAndIncrement();
+      if (item >= itemIds.size()) {
+        return;
+      }
+      int next = item;
+      try {
+        executorService.execute(
+            GcsReadScheduler.discardable(
+                GcsReadScheduler.Priority.NORMAL,
+                /* channelSequence= */ next,
+                () -> lookUpItemInfos(next, itemIds, itemInfos, nextItem, executorService)));
+        return;
+      } catch (RejectedExecutionException e) {
+        if (executorService.isShutdown()) {
+          failItemInfos(next, itemInfos, nextItem, e);
+          return;
+        }
+      }
+    }
+  }
+
+  /** Fails the item at {@code index} and every item no lookup has taken yet. */
+  private static void failItemInfos(
+      int index,
+      List<CompletableFuture<GcsItemInfo>> itemInfos,
+      AtomicInteger nextItem,
+      Exception e) {
+    for (int item = index; item < itemInfos.size(); item = nextItem.getAndIncrement()) {
+      itemInfos.get(item).completeExceptionally(e);
+    }
+  }
+
+  @Override
+  public Iterator<GcsItemInfo> listGcsItemInfos(GcsItemId prefix, int pageSize)
+      throws IOException {
+    checkNotNull(prefix, "Prefix must not be null.");
+    checkArgument(pageSize > 0, "Page size must be positive, got %s", pageSize);
+    String objectNamePrefix = prefix.getObjectName().orElse("");
+    String listedPath = "gs://" + prefix.getBucketName() + "/" + objectNamePrefix;
+    try {
+      return new GcsObjectLister(
+          storage.list(
+              prefix.getBucketName(),
+              Storage.BlobListOption.prefix(objectNamePrefix),
+              Storage.BlobListOption.pageSize(pageSize),
+              Storage.BlobListOption.fields(
+                  BLOB_METADATA_FIELDS.toArray(new Storage.BlobField[0]))),
+          executorServiceSupplier.get(),
+          listedPath);
+    } catch (StorageException storageException) {
+      throw new IOException("Unable to list objects in " + listedPath, storageException);
+    }
+  }
+
+  @Override
+  public Iterator<GcsItemInfo> listGcsItemInfos(
+      GcsItemId prefix, List<String> splitPoints, int maxConcurrency, int pageSize) {
+    checkNotNull(prefix, "Prefix must not be null.");
+    checkNotNull(splitPoints, "Split points must not be null.");
+    checkArgument(pageSize > 0, "Page size must be positive, got %s", pageSize);
+    String objectNamePrefix = prefix.getObjectName().orElse("");
+    List<String> sortedSplitPoints = ImmutableSortedSet.copyOf(splitPoints).asList();
+    // Shard i covers the names from split point i - 1 (inclusive) to split point i (exclusive),
+    // the first and last shards being open-ended.
+    List<Callable<Page<Blob>>> shards = new ArrayList<>();
+    for (int i = 0; i <= sortedSplitPoints.size(); i++) {
+      List<Storage.BlobListOption> listOptions = new ArrayList<>();
+      listOptions.add(Storage.BlobListOption.prefix(objectNamePrefix));
+      listOptions.add(Storage.BlobListOption.pageSize(pageSize));
+      listOptions.add(
+          Storage.BlobListOption.fields(BLOB_METADATA_FIELDS.toArray(new Storage.BlobField[0])));
+      if (i > 0) {
+        listOptions.add(Storage.BlobListOption.startOffset(sortedSplitPoints.get(i - 1)));
+      }
+      if (i < sortedSplitPoints.size()) {
+        listOptions.add(Storage.BlobListOption.endOffset(sortedSplitPoints.get(i)));
+      }
+      shards.add(
+          () ->
+              storage.list(
+                  prefix.getBucketName(), listOptions.toArray(new Storage.BlobListOption[0])));
+    }
+    return new GcsShardedLister(
+        shards,
+        executorServiceSupplier.get(),
+        maxConcurrency,
+        "gs://" + prefix.getBucketName() + "/" + objectNamePrefix);
+  }
+
+  @Override
+  public List<String> listGcsDirectories(GcsItemId prefix) throws IOException {
+    checkNotNull(prefix, "Prefix must not be null.");
+    String objectNamePrefix = prefix.getObjectName().orElse("");
+    try {
+      ImmutableList.Builder<String> directories = ImmutableList.builder();
+      for (Blob blob :
+          storage
+              .list(
+                  prefix.getBucketName(),
+                  Storage.BlobListOption.prefix(objectNamePrefix),
+                  Storage.BlobListOption.currentDirectory(),
+                  Storage.BlobListOption.fields(Storage.BlobField.NAME))
+              .iterateAll()) {
+        if (blob.isDirectory()) {
+          directories.add(blob.getName());
+        }
+      }
+      return directories.build();
+    } catch (StorageException storageException) {
+      throw new IOException(
+          "Unable to list directories in gs://" + prefix.getBucketName() + "/" + objectNamePrefix,
+          storageException);
+    }
+  }
+
   @Override
   public void close() {
+    timer.shutdownNow();
     try {
       storage.close();
     } catch (Exception e) {
@@ -106,7 +369,10 @@ class GcsClientImpl implements GcsClient {
 
   @VisibleForTesting
   protected Storage createStorage(Optional<Credentials> credentials) {
-    StorageOptions.Builder builder = StorageOptions.newBuilder();
+    StorageOptions.Builder builder =
+        clientType == GcsFileSystemOptions.ClientType.GRPC_CLIENT
+            ? StorageOptions.grpc()
+            : StorageOptions.newBuilder();
     clientOptions
         .getUserAgent()
         .ifPresent(
@@ -127,6 +393,10 @@ class GcsClientImpl implements GcsClient {
     if (blob == null) {
       throw new IOException("Object not found:" + itemId);
     }
+    return toItemInfo(blob);
+  }
+
+  static GcsItemInfo toItemInfo(Blob blob) {
     GcsItemId itemIdWithGeneration =
         GcsItemId.builder()
             .setContentGeneration(blob.getGeneration())
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.cloud.BaseServiceException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableMap;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Limits the number of concurrent read requests per bucket, adapting the limit to the observed
+ * latency and throttling. Shared by all streams opened through a {@link GcsFileSystem}.
+ *
+ * <p>Each bucket starts with a small limit that grows by one for every successful request made
+ * while at least half of the limit is in use (additive increase). The limit is cut in half when
+ * GCS throttles a request, and by 10% when a request is more than twice as slow per byte as the
+ * best recent request (multiplicative decrease). Requests smaller than 1 MB are accounted as 1 MB
+ * so that latency dominated small reads do not look faster than bandwidth bound large ones.
+ */
+public class GcsConcurrencyLimiter {
+  static final int INITIAL_LIMIT = 8;
+
+  private static final double THROTTLED_BACKOFF_RATIO = 0.5;
+  private static final double LATENCY_BACKOFF_RATIO = 0.9;
+  private static final double LATENCY_TOLERANCE = 2.0;
+  // Raise the best observed latency by 1% per sample so that it follows slow changes in load.
+  private static final double BASELINE_DRIFT = 1.01;
+  private static final long MIN_ACCOUNTED_BYTES = 1024 * 1024; // 1 MB
+
+  private final int maxLimit;
+  private final int initialLimit;
+  private final Ticker ticker;
+  private final ConcurrentMap<String, BucketLimit> bucketLimits = new ConcurrentHashMap<>();
+
+  GcsConcurrencyLimiter(int maxLimit) {
+    this(maxLimit, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  GcsConcurrencyLimiter(int maxLimit, Ticker ticker) {
+    checkArgument(maxLimit > 0, "Max concurrency limit must be positive, got %s", maxLimit);
+    this.maxLimit = maxLimit;
+    this.initialLimit = Math.min(INITIAL_LIMIT, maxLimit);
+    this.ticker = checkNotNull(ticker, "ticker must not be null");
+  }
+
+  /**
+   * Waits until a request to the given bucket is allowed to start.
+   *
+   * @param bucketName the bucket the request is sent to.
+   * @return a permit that must be released by reporting the outcome of the request.
+   * @throws InterruptedIOException if the thread is interrupted while waiting.
+   */
+  public Permit acquire(String bucketName) throws InterruptedIOException {
+    checkNotNull(bucketName, "bucketName must not be null");
+    BucketLimit bucketLimit =
+        bucketLimits.computeIfAbsent(bucketName, unused -> new BucketLimit(initialLimit));
+    bucketLimit.acquire();
+    return new Permit(bucketLimit, ticker.read());
+  }
+
+  /** Returns the current concurrency limit of the given bucket. */
+  public int getLimit(String bucketName) {
+    BucketLimit bucketLimit = bucketLimits.get(bucketName);
+    return bucketLimit == null ? initialLimit : bucketLimit.getLimit();
+  }
+
+  /** Returns the number of requests to the given bucket that are currently running. */
+  public int getInFlight(String bucketName) {
+    BucketLimit bucketLimit = bucketLimits.get(bucketName);
+    return bucketLimit == null ? 0 : bucketLimit.getInFlight();
+  }
+
+  /** Returns a snapshot of the current concurrency limit of every bucket read so far. */
+  public Map<String, Integer> getLimits() {
+    ImmutableMap.Builder<String, Integer> limits = ImmutableMap.builder();
+    bucketLimits.forEach(
+        (bucketName, bucketLimit) -> limits.put(bucketName, bucketLimit.getLimit()));
+    return limits.build();
+  }
+
+  private static boolean isThrottled(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof BaseServiceException) {
+        int code = ((BaseServiceException) cause).getCode();
+        return code == 429 || code == 503;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Allows one request to run. Releasing it more than once has no effect, so callers can report a
+   * failure after a success without double counting.
+   */
+  public static final class Permit {
+    /** A permit that is not backed by any limiter. */
+    static final Permit UNLIMITED = new Permit(/* bucketLimit= */ null, /* startNanos= */ 0);
+
+    private final BucketLimit bucketLimit;
+    private final long startNanos;
+    private boolean released;
+
+    private Permit(BucketLimit bucketLimit, long startNanos) {
+      this.bucketLimit = bucketLimit;
+      this.startNanos = startNanos;
+    }
+
+    /** Releases the permit of a request that read {@code bytesRead} bytes. */
+    public synchronized void onSuccess(long bytesRead) {
+      if (bucketLimit == null || released) {
+        return;
+      }
+      released = true;
+      bucketLimit.onSuccess(startNanos, bytesRead);
+    }
+
+    /**
+     * Releases the permit of a failed request. The limit is only lowered if GCS throttled the
+     * request.
+     */
+    public synchronized void onFailure(Throwable failure) {
+      if (bucketLimit == null || released) {
+        return;
+      }
+      released = true;
+      bucketLimit.onFailure(isThrottled(failure));
+    }
+  }
+
+  private final class BucketLimit {
+    private double limit;
+    private int inFlight;
+    private double baselineNanosPerByte;
+
+    private BucketLimit(int initialLimit) {
+      this.limit = initialLimit;
+    }
+
+    private synchronized void acquire() throws InterruptedIOException {
+      try {
+        while (inFlight >= (int) limit) {
+          wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for a read request slot");
+      }
+      inFlight++;
+    }
+
+    private synchronized void onSuccess(long startNanos, long bytesRead) {
+      boolean limitInUse = 2 * inFlight >= limit;
+      inFlight--;
+      double nanosPerByte =
+          (double) (ticker.read() - startNanos) / Math.max(bytesRead, MIN_ACCOUNTED_BYTES);
+      if (baselineNanosPerByte == 0 || nanosPerByte < baselineNanosPerByte) {
+        baselineNanosPerByte = nanosPerByte;
+      } else {
+        baselineNanosPerByte *= BASELINE_DRIFT;
+      }
+      if (nanosPerByte > LATENCY_TOLERANCE * baselineNanosPerByte) {
+        limit = Math.max(1, limit * LATENCY_BACKOFF_RATIO);
+      } else if (limitInUse) {
+        limit = Math.min(maxLimit, limit + 1);
+      }
+      notifyAll();
+    }
+
+    private synchronized void onFailure(boolean throttled) {
+      inFlight--;
+      if (throttled) {
+        limit = Math.max(1, limit * THROTTLED_BACKOFF_RATIO);
+      }
+      notifyAll();
+    }
+
+    private synchronized int getLimit() {
+      return (int) limit;
+    }
+
+    private synchronized int getInFlight() {
+      return inFlight;
+    }
+  }
+}
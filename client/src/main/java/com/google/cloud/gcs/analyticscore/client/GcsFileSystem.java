@@ -18,6 +18,10 @@ package com.google.cloud.gcs.analyticscore.client;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface GcsFileSystem extends AutoCloseable {
 
@@ -55,12 +59,84 @@ public interface GcsFileSystem extends AutoCloseable {
   /** Gets Metadata about the given gcs object represented by itemId. */
   GcsFileInfo getFileInfo(GcsItemId itemId) throws IOException;
 
+  /**
+   * Gets Metadata about several gcs objects, fetching the ones that are not cached concurrently.
+   *
+   * @param itemIds identifiers of the gcs objects.
+   * @return one future per item id, in the same order, completed with the Metadata of the object
+   *     or with the reason it could not be fetched.
+   */
+  List<CompletableFuture<GcsFileInfo>> getFileInfos(List<GcsItemId> itemIds);
+
+  /**
+   * Lists the objects whose path starts with the given prefix, in lexicographic order.
+   *
+   * @param prefix The path prefix to list, e.g. {@code gs://bucket/dir/}.
+   * @return Metadata about the listed objects, which can be opened without fetching it again.
+   *     Pages of results are fetched ahead of the caller, failures to fetch them are thrown as
+   *     {@link java.io.UncheckedIOException}.
+   * @throws IOException if the listing cannot be started.
+   */
+  Iterator<GcsFileInfo> list(URI prefix) throws IOException;
+
+  /**
+   * Lists the objects whose path starts with the given prefix, in lexicographic order, listing the
+   * directories directly under the prefix concurrently. Flat prefixes without directories are
+   * listed serially, use {@link #listParallel(URI, List)} to split them.
+   *
+   * @param prefix The path prefix to list, e.g. {@code gs://bucket/table/}.
+   * @return Metadata about the listed objects. Failures to list a part of the prefix are thrown as
+   *     {@link java.io.UncheckedIOException}.
+   * @throws IOException if the directories under the prefix cannot be listed.
+   */
+  Iterator<GcsFileInfo> listParallel(URI prefix) throws IOException;
+
+  /**
+   * Lists the objects whose path starts with the given prefix, in lexicographic order, splitting
+   * the key space at the given object names and listing the resulting shards concurrently.
+   *
+   * @param prefix The path prefix to list, e.g. {@code gs://bucket/table/}.
+   * @param splitPoints Object names, without the bucket, at which a new shard starts.
+   * @return Metadata about the listed objects. Failures to list a shard are thrown as {@link
+   *     java.io.UncheckedIOException}.
+   */
+  Iterator<GcsFileInfo> listParallel(URI prefix, List<String> splitPoints);
+
   /** Retrieve the options that were used to create this GcsFileSystem. */
   GcsFileSystemOptions getFileSystemOptions();
 
   /** Retrieve the gcs client used to create this GcsFileSystem. */
   GcsClient getGcsClient();
 
+  /**
+   * Retrieve the footer cache shared by all streams opened through this GcsFileSystem.
+   *
+   * @return the footer cache, or empty if footer caching is disabled.
+   */
+  Optional<GcsFooterCache> getFooterCache();
+
+  /**
+   * Retrieve the object metadata cache shared by all streams opened through this GcsFileSystem.
+   *
+   * @return the metadata cache, or empty if metadata caching is disabled.
+   */
+  Optional<GcsMetadataCache> getMetadataCache();
+
+  /**
+   * Retrieve the buffer pool shared by all streams opened through this GcsFileSystem.
+   *
+   * @return the buffer pool, or empty if buffer pooling is disabled.
+   */
+  Optional<GcsByteBufferPool> getBufferPool();
+
+  /**
+   * Retrieve the adaptive limiter of concurrent read requests shared by all streams opened through
+   * this GcsFileSystem.
+   *
+   * @return the concurrency limiter, or empty if adaptive concurrency is disabled.
+   */
+  Optional<GcsConcurrencyLimiter> getConcurrencyLimiter();
+
   /** Close the file system. */
   @Override
   void close();
@@ -23,34 +23,61 @@ import com.google.cloud.storage.BlobId;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
+import com.google.common.collect.Iterators;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class GcsFileSystemImpl implements GcsFileSystem {
+  private static final Logger LOG = LoggerFactory.getLogger(GcsFileSystemImpl.class);
 
   private final GcsClient gcsClient;
   private final GcsFileSystemOptions fileSystemOptions;
   private final Supplier<ExecutorService> executorServiceSupplier;
+  private final Optional<GcsFooterCache> footerCache;
+  private final Optional<GcsMetadataCache> metadataCache;
+  private final Optional<GcsByteBufferPool> bufferPool;
+  private final Optional<GcsConcurrencyLimiter> concurrencyLimiter;
 
   public GcsFileSystemImpl(GcsFileSystemOptions fileSystemOptions) {
     this.fileSystemOptions = fileSystemOptions;
     this.executorServiceSupplier = initializeExecutionServiceSupplier();
+    this.footerCache = createFooterCache(fileSystemOptions);
+    this.metadataCache = createMetadataCache(fileSystemOptions);
+    this.bufferPool = createBufferPool(fileSystemOptions);
+    this.concurrencyLimiter = createConcurrencyLimiter(fileSystemOptions);
     this.gcsClient =
-        new GcsClientImpl(getGcsClientOptions(fileSystemOptions), executorServiceSupplier);
+        new GcsClientImpl(
+            getGcsClientOptions(fileSystemOptions),
+            executorServiceSupplier,
+            concurrencyLimiter,
+            fileSystemOptions.getClientType());
   }
 
   public GcsFileSystemImpl(Credentials credentials, GcsFileSystemOptions fileSystemOptions) {
     this.fileSystemOptions = fileSystemOptions;
     this.executorServiceSupplier = initializeExecutionServiceSupplier();
+    this.footerCache = createFooterCache(fileSystemOptions);
+    this.metadataCache = createMetadataCache(fileSystemOptions);
+    this.bufferPool = createBufferPool(fileSystemOptions);
+    this.concurrencyLimiter = createConcurrencyLimiter(fileSystemOptions);
     this.gcsClient =
         new GcsClientImpl(
-            credentials, getGcsClientOptions(fileSystemOptions), executorServiceSupplier);
+            credentials,
+            getGcsClientOptions(fileSystemOptions),
+            executorServiceSupplier,
+            concurrencyLimiter,
+            fileSystemOptions.getClientType());
   }
 
   @VisibleForTesting
@@ -58,6 +85,10 @@ public class GcsFileSystemImpl implements GcsFileSystem {
     this.gcsClient = gcsClient;
     this.fileSystemOptions = fileSystemOptions;
     this.executorServiceSupplier = initializeExecutionServiceSupplier();
+    this.footerCache = createFooterCache(fileSystemOptions);
+    this.metadataCache = createMetadataCache(fileSystemOptions);
+    this.bufferPool = createBufferPool(fileSystemOptions);
+    this.concurrencyLimiter = createConcurrencyLimiter(fileSystemOptions);
   }
 
   @Override
@@ -87,14 +118,98 @@ public class GcsFileSystemImpl implements GcsFileSystem {
 
   @Override
   public GcsFileInfo getFileInfo(GcsItemId itemId) throws IOException {
-    GcsItemInfo gcsItemInfo = gcsClient.getGcsItemInfo(itemId);
-    return GcsFileInfo.builder()
-        .setItemInfo(gcsItemInfo)
-        .setUri(
-            URI.create(
-                BlobId.of(itemId.getBucketName(), itemId.getObjectName().get()).toGsUtilUri()))
-        .setAttributes(Collections.emptyMap())
-        .build();
+    Optional<GcsItemInfo> cachedItemInfo = metadataCache.flatMap(cache -> cache.get(itemId));
+    GcsItemInfo gcsItemInfo;
+    if (cachedItemInfo.isPresent()) {
+      gcsItemInfo = cachedItemInfo.get();
+    } else {
+      gcsItemInfo = gcsClient.getGcsItemInfo(itemId);
+      metadataCache.ifPresent(cache -> cache.put(itemId, gcsItemInfo));
+    }
+    return toFileInfo(itemId, gcsItemInfo);
+  }
+
+  @Override
+  public List<CompletableFuture<GcsFileInfo>> getFileInfos(List<GcsItemId> itemIds) {
+    checkNotNull(itemIds, "itemIds should not be null");
+    List<CompletableFuture<GcsFileInfo>> fileInfos = new ArrayList<>(itemIds.size());
+    List<GcsItemId> uncachedItemIds = new ArrayList<>();
+    List<Integer> uncachedIndices = new ArrayList<>();
+    for (GcsItemId itemId : itemIds) {
+      Optional<GcsItemInfo> cachedItemInfo = metadataCache.flatMap(cache -> cache.get(itemId));
+      if (cachedItemInfo.isPresent()) {
+        fileInfos.add(CompletableFuture.completedFuture(toFileInfo(itemId, cachedItemInfo.get())));
+      } else {
+        uncachedIndices.add(fileInfos.size());
+        uncachedItemIds.add(itemId);
+        fileInfos.add(null);
+      }
+    }
+    if (!uncachedItemIds.isEmpty()) {
+      List<CompletableFuture<GcsItemInfo>> itemInfos =
+          gcsClient.getGcsItemInfos(
+              uncachedItemIds, fileSystemOptions.getMetadataBatchMaxConcurrency());
+      for (int i = 0; i < uncachedItemIds.size(); i++) {
+        GcsItemId itemId = uncachedItemIds.get(i);
+        fileInfos.set(
+            uncachedIndices.get(i),
+            itemInfos
+                .get(i)
+                .thenApply(
+                    gcsItemInfo -> {
+                      metadataCache.ifPresent(cache -> cache.put(itemId, gcsItemInfo));
+                      return toFileInfo(itemId, gcsItemInfo);
+                    }));
+      }
+    }
+    return fileInfos;
+  }
+
+  @Override
+  public Iterator<GcsFileInfo> list(URI prefix) throws IOException {
+    checkNotNull(prefix, "prefix should not be null");
+    GcsItemId prefixItemId = UriUtil.getItemIdFromString(prefix.toString());
+    return toListedFileInfos(
+        gcsClient.listGcsItemInfos(prefixItemId, fileSystemOptions.getListPageSize()));
+  }
+
+  @Override
+  public Iterator<GcsFileInfo> listParallel(URI prefix) throws IOException {
+    checkNotNull(prefix, "prefix should not be null");
+    GcsItemId prefixItemId = UriUtil.getItemIdFromString(prefix.toString());
+    // The directories split the key space into ranges that each hold the objects of one directory,
+    // followed by the objects that sort between it and the next directory.
+    return listParallel(prefixItemId, gcsClient.listGcsDirectories(prefixItemId));
+  }
+
+  @Override
+  public Iterator<GcsFileInfo> listParallel(URI prefix, List<String> splitPoints) {
+    checkNotNull(prefix, "prefix should not be null");
+    checkNotNull(splitPoints, "splitPoints should not be null");
+    return listParallel(UriUtil.getItemIdFromString(prefix.toString()), splitPoints);
+  }
+
+  private Iterator<GcsFileInfo> listParallel(GcsItemId prefixItemId, List<String> splitPoints) {
+    return toListedFileInfos(
+        gcsClient.listGcsItemInfos(
+            prefixItemId,
+            splitPoints,
+            fileSystemOptions.getListParallelMaxConcurrency(),
+            fileSystemOptions.getListPageSize()));
+  }
+
+  private Iterator<GcsFileInfo> toListedFileInfos(Iterator<GcsItemInfo> itemInfos) {
+    return Iterators.transform(
+        itemInfos,
+        gcsItemInfo -> {
+          GcsItemId itemId =
+              GcsItemId.builder()
+                  .setBucketName(gcsItemInfo.getItemId().getBucketName())
+                  .setObjectName(gcsItemInfo.getItemId().getObjectName().get())
+                  .build();
+          metadataCache.ifPresent(cache -> cache.put(itemId, gcsItemInfo));
+          return toFileInfo(itemId, gcsItemInfo);
+        });
   }
 
   @Override
@@ -107,6 +222,26 @@ public class GcsFileSystemImpl implements GcsFileSystem {
     return this.gcsClient;
   }
 
+  @Override
+  public Optional<GcsFooterCache> getFooterCache() {
+    return this.footerCache;
+  }
+
+  @Override
+  public Optional<GcsMetadataCache> getMetadataCache() {
+    return this.metadataCache;
+  }
+
+  @Override
+  public Optional<GcsByteBufferPool> getBufferPool() {
+    return this.bufferPool;
+  }
+
+  @Override
+  public Optional<GcsConcurrencyLimiter> getConcurrencyLimiter() {
+    return this.concurrencyLimiter;
+  }
+
   @Override
   public void close() {
     ExecutorService executorService = executorServiceSupplier.get();
@@ -122,25 +257,69 @@ public class GcsFileSystemImpl implements GcsFileSystem {
     gcsClient.close();
   }
 
+  private static GcsFileInfo toFileInfo(GcsItemId itemId, GcsItemInfo gcsItemInfo) {
+    return GcsFileInfo.builder()
+        .setItemInfo(gcsItemInfo)
+        .setUri(
+            URI.create(
+                BlobId.of(itemId.getBucketName(), itemId.getObjectName().get()).toGsUtilUri()))
+        .setAttributes(Collections.emptyMap())
+        .build();
+  }
+
   private static GcsClientOptions getGcsClientOptions(GcsFileSystemOptions fileSystemOptions) {
     return fileSystemOptions.getGcsClientOptions() == null
         ? GcsClientOptions.builder().build()
         : fileSystemOptions.getGcsClientOptions();
   }
 
+  private static Optional<GcsFooterCache> createFooterCache(GcsFileSystemOptions options) {
+    return options.getFooterCacheMaxSize() > 0
+        ? Optional.of(new GcsFooterCache(options.getFooterCacheMaxSize()))
+        : Optional.empty();
+  }
+
+  private static Optional<GcsMetadataCache> createMetadataCache(GcsFileSystemOptions options) {
+    return options.getMetadataCacheMaxEntries() > 0
+        ? Optional.of(
+            new GcsMetadataCache(
+                options.getMetadataCacheMaxEntries(), options.getMetadataCacheTtlMs()))
+        : Optional.empty();
+  }
+
+  private static Optional<GcsByteBufferPool> createBufferPool(GcsFileSystemOptions options) {
+    return options.getBufferPoolMaxSize() > 0
+        ? Optional.of(new GcsByteBufferPool(options.getBufferPoolMaxSize()))
+        : Optional.empty();
+  }
+
+  private static Optional<GcsConcurrencyLimiter> createConcurrencyLimiter(
+      GcsFileSystemOptions options) {
+    return options.isAdaptiveConcurrencyEnabled()
+        ? Optional.of(new GcsConcurrencyLimiter(options.getAdaptiveConcurrencyMaxLimit()))
+        : Optional.empty();
+  }
+
   @VisibleForTesting
   Supplier<ExecutorService> initializeExecutionServiceSupplier() {
     return Suppliers.memoize(
-        () ->
-            new ThreadPoolExecutor(
-                fileSystemOptions.getReadThreadCount(),
-                fileSystemOptions.getReadThreadCount(),
-                0L,
-                TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<Runnable>(),
-                new ThreadFactoryBuilder()
-                    .setNameFormat("gcs-filesystem-range-pool-%d")
-                    .setDaemon(true)
-                    .build()));
+        () -> {
+          if (fileSystemOptions.isVirtualThreadsEnabled()) {
+            Optional<ExecutorService> virtualThreadExecutor =
+                GcsVirtualThreadExecutor.create(
+                    fileSystemOptions.getVirtualThreadsMaxConcurrency());
+            if (virtualThreadExecutor.isPresent()) {
+              return virtualThreadExecutor.get();
+            }
+            LOG.warn("Virtual threads are not supported by this runtime, using the read pool");
+          }
+          return new GcsReadScheduler(
+              fileSystemOptions.getReadThreadCount(),
+              fileSystemOptions.getReadQueueMaxSize(),
+              new ThreadFactoryBuilder()
+                  .setNameFormat("gcs-filesystem-range-pool-%d")
+                  .setDaemon(true)
+                  .build());
+        });
   }
 }
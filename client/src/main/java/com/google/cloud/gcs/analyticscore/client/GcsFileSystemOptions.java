@@ -23,7 +23,41 @@ import java.util.Map;
 public abstract class GcsFileSystemOptions {
 
   private static final String READ_THREAD_COUNT_KEY = "analytics-core.read.thread.count";
+  private static final String READ_QUEUE_MAX_SIZE_KEY = "analytics-core.read.thread.queue.max-size";
+  private static final String VIRTUAL_THREADS_ENABLED_KEY =
+      "analytics-core.read.virtual-threads.enabled";
+  private static final String VIRTUAL_THREADS_MAX_CONCURRENCY_KEY =
+      "analytics-core.read.virtual-threads.max-concurrency";
+  private static final String ADAPTIVE_CONCURRENCY_ENABLED_KEY =
+      "analytics-core.read.adaptive-concurrency.enabled";
+  private static final String ADAPTIVE_CONCURRENCY_MAX_LIMIT_KEY =
+      "analytics-core.read.adaptive-concurrency.max-limit";
   private static final String CLIENT_TYPE_KEY = "client.type";
+  private static final String FOOTER_CACHE_MAX_SIZE_KEY =
+      "analytics-core.footer.cache.max-size-bytes";
+  private static final String BUFFER_POOL_MAX_SIZE_KEY =
+      "analytics-core.buffer-pool.max-size-bytes";
+  private static final String METADATA_CACHE_MAX_ENTRIES_KEY =
+      "analytics-core.metadata.cache.max-entries";
+  private static final String METADATA_CACHE_TTL_KEY = "analytics-core.metadata.cache.ttl-ms";
+  private static final String METADATA_BATCH_MAX_CONCURRENCY_KEY =
+      "analytics-core.metadata.batch.max-concurrency";
+  private static final String LIST_PAGE_SIZE_KEY = "analytics-core.list.page-size";
+  private static final String LIST_PARALLEL_MAX_CONCURRENCY_KEY =
+      "analytics-core.list.parallel.max-concurrency";
+
+  private static final long DEFAULT_FOOTER_CACHE_MAX_SIZE = 0; // 0 bytes = disabled
+  private static final long DEFAULT_BUFFER_POOL_MAX_SIZE = 0; // 0 bytes = disabled
+  private static final long DEFAULT_METADATA_CACHE_MAX_ENTRIES = 0; // 0 = disabled
+  private static final long DEFAULT_METADATA_CACHE_TTL_MS = 60 * 1000; // 1 minute
+  private static final int DEFAULT_METADATA_BATCH_MAX_CONCURRENCY = 32;
+  private static final int DEFAULT_LIST_PAGE_SIZE = 1000; // Maximum allowed by Cloud Storage
+  private static final int DEFAULT_LIST_PARALLEL_MAX_CONCURRENCY = 8;
+  private static final int DEFAULT_READ_QUEUE_MAX_SIZE = 0; // 0 = unbounded
+  private static final boolean DEFAULT_VIRTUAL_THREADS_ENABLED = false;
+  private static final int DEFAULT_VIRTUAL_THREADS_MAX_CONCURRENCY = 256;
+  private static final boolean DEFAULT_ADAPTIVE_CONCURRENCY_ENABLED = false;
+  private static final int DEFAULT_ADAPTIVE_CONCURRENCY_MAX_LIMIT = 256;
 
   /** Cloud Storage client to use. */
   public enum ClientType {
@@ -33,14 +67,71 @@ public abstract class GcsFileSystemOptions {
 
   public abstract int getReadThreadCount();
 
+  /**
+   * Maximum number of reads waiting for a read thread. Once reached, the submitting thread runs
+   * the read itself.
+   */
+  public abstract int getReadQueueMaxSize();
+
+  /**
+   * Whether background reads run on virtual threads instead of the read thread pool. Only takes
+   * effect on Java 21 and later.
+   */
+  public abstract boolean isVirtualThreadsEnabled();
+
+  /** Maximum number of background reads running at the same time on virtual threads. */
+  public abstract int getVirtualThreadsMaxConcurrency();
+
+  /**
+   * Whether the number of concurrent read requests per bucket adapts to the observed latency and
+   * throttling.
+   */
+  public abstract boolean isAdaptiveConcurrencyEnabled();
+
+  /** Upper bound of the adaptive number of concurrent read requests per bucket. */
+  public abstract int getAdaptiveConcurrencyMaxLimit();
+
   public abstract ClientType getClientType();
 
   public abstract GcsClientOptions getGcsClientOptions();
 
+  /** Maximum total size of object tails kept in the file system wide footer cache. */
+  public abstract long getFooterCacheMaxSize();
+
+  /** Maximum total size of idle buffers kept in the file system wide buffer pool. */
+  public abstract long getBufferPoolMaxSize();
+
+  /** Maximum number of objects kept in the file system wide metadata cache. */
+  public abstract long getMetadataCacheMaxEntries();
+
+  /** Time after which cached object metadata is fetched again. */
+  public abstract long getMetadataCacheTtlMs();
+
+  /** Maximum number of metadata requests in flight for one batch lookup of several objects. */
+  public abstract int getMetadataBatchMaxConcurrency();
+
+  /** Maximum number of objects fetched per listing request. */
+  public abstract int getListPageSize();
+
+  /** Maximum number of shards of a parallel listing listed or buffered at the same time. */
+  public abstract int getListParallelMaxConcurrency();
+
   public static Builder builder() {
     return new AutoValue_GcsFileSystemOptions.Builder()
         .setReadThreadCount(16)
+        .setReadQueueMaxSize(DEFAULT_READ_QUEUE_MAX_SIZE)
+        .setVirtualThreadsEnabled(DEFAULT_VIRTUAL_THREADS_ENABLED)
+        .setVirtualThreadsMaxConcurrency(DEFAULT_VIRTUAL_THREADS_MAX_CONCURRENCY)
+        .setAdaptiveConcurrencyEnabled(DEFAULT_ADAPTIVE_CONCURRENCY_ENABLED)
+        .setAdaptiveConcurrencyMaxLimit(DEFAULT_ADAPTIVE_CONCURRENCY_MAX_LIMIT)
         .setClientType(ClientType.HTTP_CLIENT)
+        .setFooterCacheMaxSize(DEFAULT_FOOTER_CACHE_MAX_SIZE)
+        .setBufferPoolMaxSize(DEFAULT_BUFFER_POOL_MAX_SIZE)
+        .setMetadataCacheMaxEntries(DEFAULT_METADATA_CACHE_MAX_ENTRIES)
+        .setMetadataCacheTtlMs(DEFAULT_METADATA_CACHE_TTL_MS)
+        .setMetadataBatchMaxConcurrency(DEFAULT_METADATA_BATCH_MAX_CONCURRENCY)
+        .setListPageSize(DEFAULT_LIST_PAGE_SIZE)
+        .setListParallelMaxConcurrency(DEFAULT_LIST_PARALLEL_MAX_CONCURRENCY)
         .setGcsClientOptions(GcsClientOptions.builder().build());
   }
 
@@ -51,10 +142,59 @@ public abstract class GcsFileSystemOptions {
       optionsBuilder.setReadThreadCount(
           Integer.parseInt(analyticsCoreOptions.get(prefix + READ_THREAD_COUNT_KEY)));
     }
+    if (analyticsCoreOptions.containsKey(prefix + READ_QUEUE_MAX_SIZE_KEY)) {
+      optionsBuilder.setReadQueueMaxSize(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + READ_QUEUE_MAX_SIZE_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + VIRTUAL_THREADS_ENABLED_KEY)) {
+      optionsBuilder.setVirtualThreadsEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + VIRTUAL_THREADS_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + VIRTUAL_THREADS_MAX_CONCURRENCY_KEY)) {
+      optionsBuilder.setVirtualThreadsMaxConcurrency(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + VIRTUAL_THREADS_MAX_CONCURRENCY_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + ADAPTIVE_CONCURRENCY_ENABLED_KEY)) {
+      optionsBuilder.setAdaptiveConcurrencyEnabled(
+          Boolean.parseBoolean(
+              analyticsCoreOptions.get(prefix + ADAPTIVE_CONCURRENCY_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + ADAPTIVE_CONCURRENCY_MAX_LIMIT_KEY)) {
+      optionsBuilder.setAdaptiveConcurrencyMaxLimit(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + ADAPTIVE_CONCURRENCY_MAX_LIMIT_KEY)));
+    }
     if (analyticsCoreOptions.containsKey(prefix + CLIENT_TYPE_KEY)) {
       optionsBuilder.setClientType(
           ClientType.valueOf(analyticsCoreOptions.get(prefix + CLIENT_TYPE_KEY)));
     }
+    if (analyticsCoreOptions.containsKey(prefix + FOOTER_CACHE_MAX_SIZE_KEY)) {
+      optionsBuilder.setFooterCacheMaxSize(
+          Long.parseLong(analyticsCoreOptions.get(prefix + FOOTER_CACHE_MAX_SIZE_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + BUFFER_POOL_MAX_SIZE_KEY)) {
+      optionsBuilder.setBufferPoolMaxSize(
+          Long.parseLong(analyticsCoreOptions.get(prefix + BUFFER_POOL_MAX_SIZE_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + METADATA_CACHE_MAX_ENTRIES_KEY)) {
+      optionsBuilder.setMetadataCacheMaxEntries(
+          Long.parseLong(analyticsCoreOptions.get(prefix + METADATA_CACHE_MAX_ENTRIES_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + METADATA_CACHE_TTL_KEY)) {
+      optionsBuilder.setMetadataCacheTtlMs(
+          Long.parseLong(analyticsCoreOptions.get(prefix + METADATA_CACHE_TTL_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + METADATA_BATCH_MAX_CONCURRENCY_KEY)) {
+      optionsBuilder.setMetadataBatchMaxConcurrency(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + METADATA_BATCH_MAX_CONCURRENCY_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + LIST_PAGE_SIZE_KEY)) {
+      optionsBuilder.setListPageSize(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + LIST_PAGE_SIZE_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + LIST_PARALLEL_MAX_CONCURRENCY_KEY)) {
+      optionsBuilder.setListParallelMaxConcurrency(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + LIST_PARALLEL_MAX_CONCURRENCY_KEY)));
+    }
     optionsBuilder.setGcsClientOptions(
         GcsClientOptions.createFromOptions(analyticsCoreOptions, prefix));
 
@@ -69,8 +209,32 @@ public abstract class GcsFileSystemOptions {
 
     public abstract Builder setReadThreadCount(int readThreadCount);
 
+    public abstract Builder setReadQueueMaxSize(int readQueueMaxSize);
+
+    public abstract Builder setVirtualThreadsEnabled(boolean virtualThreadsEnabled);
+
+    public abstract Builder setVirtualThreadsMaxConcurrency(int virtualThreadsMaxConcurrency);
+
+    public abstract Builder setAdaptiveConcurrencyEnabled(boolean adaptiveConcurrencyEnabled);
+
+    public abstract Builder setAdaptiveConcurrencyMaxLimit(int adaptiveConcurrencyMaxLimit);
+
     public abstract Builder setGcsClientOptions(GcsClientOptions gcsClientOptions);
 
+    public abstract Builder setFooterCacheMaxSize(long footerCacheMaxSize);
+
+    public abstract Builder setBufferPoolMaxSize(long bufferPoolMaxSize);
+
+    public abstract Builder setMetadataCacheMaxEntries(long metadataCacheMaxEntries);
+
+    public abstract Builder setMetadataCacheTtlMs(long metadataCacheTtlMs);
+
+    public abstract Builder setMetadataBatchMaxConcurrency(int metadataBatchMaxConcurrency);
+
+    public abstract Builder setListPageSize(int listPageSize);
+
+    public abstract Builder setListParallelMaxConcurrency(int listParallelMaxConcurrency);
+
     public abstract GcsFileSystemOptions build();
   }
 }
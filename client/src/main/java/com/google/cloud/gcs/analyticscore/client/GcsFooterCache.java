@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * A bounded cache of object tails (footers) shared by all streams opened through a {@link
+ * GcsFileSystem}.
+ *
+ * <p>Entries are keyed by bucket, object name and content generation, so a cached tail is only
+ * served for the exact object version it was read from. Objects without a known generation are
+ * never cached. Once the total size of the cached tails exceeds the configured limit, the least
+ * recently used entries are evicted.
+ */
+public class GcsFooterCache {
+
+  private final Cache<GcsItemId, ByteBuffer> cache;
+
+  GcsFooterCache(long maxSizeBytes) {
+    checkArgument(maxSizeBytes > 0, "Footer cache size must be positive, got %s", maxSizeBytes);
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxSizeBytes)
+            .weigher((GcsItemId itemId, ByteBuffer tail) -> tail.remaining())
+            .build();
+  }
+
+  /**
+   * Returns the last {@code length} bytes of the given object version if they are cached.
+   *
+   * @param itemId identifier of the object, including its content generation.
+   * @param length number of bytes from the end of the object.
+   * @return a read-only buffer positioned at the first of the requested bytes, or empty on miss.
+   */
+  public Optional<ByteBuffer> get(GcsItemId itemId, int length) {
+    if (!isCacheable(itemId)) {
+      return Optional.empty();
+    }
+    ByteBuffer tail = cache.getIfPresent(itemId);
+    if (tail == null || tail.remaining() < length) {
+      return Optional.empty();
+    }
+    ByteBuffer view = tail.duplicate();
+    view.position(view.limit() - length);
+    return Optional.of(view.slice());
+  }
+
+  /**
+   * Caches the tail of the given object version. The remaining bytes of {@code tail} must end at
+   * the last byte of the object. A tail shorter than the one already cached is ignored.
+   */
+  public void put(GcsItemId itemId, ByteBuffer tail) {
+    checkNotNull(tail, "tail must not be null");
+    if (!isCacheable(itemId)) {
+      return;
+    }
+    cache
+        .asMap()
+        .merge(
+            itemId,
+            tail.asReadOnlyBuffer(),
+            (existing, candidate) ->
+                existing.remaining() >= candidate.remaining() ? existing : candidate);
+  }
+
+  /** Removes any cached tail of the given object version. */
+  public void invalidate(GcsItemId itemId) {
+    cache.invalidate(itemId);
+  }
+
+  /** Returns the number of cached tails. */
+  public long size() {
+    return cache.size();
+  }
+
+  private static boolean isCacheable(GcsItemId itemId) {
+    return itemId != null && itemId.isGcsObject() && itemId.getContentGeneration().isPresent();
+  }
+}
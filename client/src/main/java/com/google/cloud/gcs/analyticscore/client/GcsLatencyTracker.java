@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/** Keeps the most recent latencies of one kind of request to estimate their percentiles. */
+class GcsLatencyTracker {
+  /** Percentiles are only estimated once this many latencies have been recorded. */
+  static final int MIN_SAMPLES = 20;
+
+  private static final int WINDOW_SIZE = 256;
+
+  private final long[] samples = new long[WINDOW_SIZE];
+  private int sampleCount;
+  private int nextSample;
+
+  synchronized void record(long latencyNanos) {
+    samples[nextSample] = latencyNanos;
+    nextSample = (nextSample + 1) % WINDOW_SIZE;
+    sampleCount = Math.min(sampleCount + 1, WINDOW_SIZE);
+  }
+
+  /**
+   * Returns the given percentile of the recent latencies, or empty if too few have been recorded.
+   *
+   * @param percentile the percentile to estimate, between 0 (exclusive) and 100 (inclusive).
+   */
+  synchronized OptionalLong getPercentile(int percentile) {
+    checkArgument(
+        percentile > 0 && percentile <= 100, "Percentile must be in (0, 100], got %s", percentile);
+    if (sampleCount < MIN_SAMPLES) {
+      return OptionalLong.empty();
+    }
+    long[] sorted = Arrays.copyOf(samples, sampleCount);
+    Arrays.sort(sorted);
+    int index = (int) Math.ceil(percentile / 100.0 * sampleCount) - 1;
+    return OptionalLong.of(sorted[Math.max(index, 0)]);
+  }
+}
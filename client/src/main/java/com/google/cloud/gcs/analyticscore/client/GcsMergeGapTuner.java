@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Derives the merge gap of vectored reads from the observed latency and bandwidth of range reads.
+ *
+ * <p>Reading the gap between two ranges costs its size divided by the bandwidth, while a separate
+ * request for the second range costs the time to first byte. The break-even gap is therefore the
+ * number of bytes that can be transferred while waiting for the first byte of a new request.
+ */
+class GcsMergeGapTuner {
+  private static final int WINDOW_SIZE = 256;
+
+  private final GcsLatencyTracker firstByteLatencies = new GcsLatencyTracker();
+  // Bytes and duration of the transfer that followed the first byte, of the most recent reads.
+  private final long[] transferBytes = new long[WINDOW_SIZE];
+  private final long[] transferNanos = new long[WINDOW_SIZE];
+  private long totalTransferBytes;
+  private long totalTransferNanos;
+  private int nextSample;
+
+  /**
+   * Records a range read.
+   *
+   * @param firstByteNanos time from sending the request until the first bytes were received.
+   * @param bytesRead number of bytes read by the request.
+   * @param totalNanos time from sending the request until the last byte was received.
+   */
+  synchronized void record(long firstByteNanos, long bytesRead, long totalNanos) {
+    long transferDuration = Math.max(totalNanos - firstByteNanos, 0);
+    firstByteLatencies.record(firstByteNanos);
+    totalTransferBytes += bytesRead - transferBytes[nextSample];
+    totalTransferNanos += transferDuration - transferNanos[nextSample];
+    transferBytes[nextSample] = bytesRead;
+    transferNanos[nextSample] = transferDuration;
+    nextSample = (nextSample + 1) % WINDOW_SIZE;
+  }
+
+  /**
+   * Returns the break-even merge gap within the given bounds, or empty if too few reads have been
+   * recorded to estimate it.
+   */
+  synchronized OptionalInt getMergeGap(int minMergeGap, int maxMergeGap) {
+    checkArgument(
+        minMergeGap <= maxMergeGap,
+        "Min merge gap %s must not exceed max merge gap %s",
+        minMergeGap,
+        maxMergeGap);
+    OptionalLong firstByteLatency = firstByteLatencies.getPercentile(50);
+    if (!firstByteLatency.isPresent() || totalTransferNanos == 0) {
+      return OptionalInt.empty();
+    }
+    double bytesPerNano = (double) totalTransferBytes / totalTransferNanos;
+    double breakEvenGap = firstByteLatency.getAsLong() * bytesPerNano;
+    return OptionalInt.of((int) Math.max(minMergeGap, Math.min(maxMergeGap, breakEvenGap)));
+  }
+}
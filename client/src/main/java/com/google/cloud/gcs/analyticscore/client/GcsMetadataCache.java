@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded cache of object metadata shared by all streams opened through a {@link
+ * GcsFileSystem}.
+ *
+ * <p>Entries hold the latest known version of an object, keyed by bucket and object name, and
+ * expire a fixed time after they were fetched. A lookup for a specific content generation is only
+ * served if the cached version has that generation. Once the configured number of objects is
+ * exceeded, the least recently used entries are evicted.
+ */
+public class GcsMetadataCache {
+
+  private final Cache<GcsItemId, GcsItemInfo> cache;
+
+  GcsMetadataCache(long maxEntries, long ttlMs) {
+    this(maxEntries, ttlMs, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  GcsMetadataCache(long maxEntries, long ttlMs, Ticker ticker) {
+    checkArgument(maxEntries > 0, "Metadata cache size must be positive, got %s", maxEntries);
+    checkArgument(ttlMs > 0, "Metadata cache TTL must be positive, got %s", ttlMs);
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+            .ticker(ticker)
+            .build();
+  }
+
+  /**
+   * Returns the cached metadata of the given object.
+   *
+   * @param itemId identifier of the object, with or without a content generation.
+   * @return the cached metadata, or empty on miss or if the cached version has another generation.
+   */
+  public Optional<GcsItemInfo> get(GcsItemId itemId) {
+    if (!isCacheable(itemId)) {
+      return Optional.empty();
+    }
+    GcsItemInfo itemInfo = cache.getIfPresent(toKey(itemId));
+    if (itemInfo == null
+        || (itemId.getContentGeneration().isPresent()
+            && !itemId.getContentGeneration().equals(itemInfo.getContentGeneration()))) {
+      return Optional.empty();
+    }
+    return Optional.of(itemInfo);
+  }
+
+  /**
+   * Caches the metadata fetched for the given object. Only lookups of the latest version, without
+   * a content generation, are cached so that older versions never replace it.
+   */
+  public void put(GcsItemId itemId, GcsItemInfo itemInfo) {
+    checkNotNull(itemInfo, "itemInfo must not be null");
+    if (!isCacheable(itemId) || itemId.getContentGeneration().isPresent()) {
+      return;
+    }
+    cache.put(toKey(itemId), itemInfo);
+  }
+
+  /** Removes the cached metadata of the given object, whatever its generation. */
+  public void invalidate(GcsItemId itemId) {
+    if (isCacheable(itemId)) {
+      cache.invalidate(toKey(itemId));
+    }
+  }
+
+  /** Removes the cached metadata of every object. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /** Returns the number of cached objects. */
+  public long size() {
+    return cache.size();
+  }
+
+  private static boolean isCacheable(GcsItemId itemId) {
+    return itemId != null && itemId.isGcsObject();
+  }
+
+  private static GcsItemId toKey(GcsItemId itemId) {
+    if (!itemId.getContentGeneration().isPresent()) {
+      return itemId;
+    }
+    return GcsItemId.builder()
+        .setBucketName(itemId.getBucketName())
+        .setObjectName(itemId.getObjectName().get())
+        .build();
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableList;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Represents a byte range from a GCS object that may be larger than a single {@link ByteBuffer}
+ * can hold. The range is read as consecutive chunks of at most {@link #getChunkSize()} bytes,
+ * which are delivered together once all of them have been read.
+ */
+@AutoValue
+public abstract class GcsObjectChunkedRange {
+  private static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024; // 8 MB
+
+  // The future that will be completed with the contents of the byte range, in order.
+  public abstract CompletableFuture<List<ByteBuffer>> getChunksFuture();
+
+  // The starting offset of the byte range.
+  public abstract long getOffset();
+
+  // The length of the byte range.
+  public abstract long getLength();
+
+  // The maximum length of each chunk.
+  public abstract int getChunkSize();
+
+  /**
+   * Returns the ranges that make up this range, created when the range is built. {@link
+   * #getChunksFuture()} is completed once all of them have been completed, or exceptionally as soon
+   * as one of them fails.
+   */
+  public abstract ImmutableList<GcsObjectRange> getChunkRanges();
+
+  /** Returns the ranges that make up all the given ranges. */
+  public static ImmutableList<GcsObjectRange> toObjectRanges(List<GcsObjectChunkedRange> ranges) {
+    return ranges.stream()
+        .flatMap(range -> range.getChunkRanges().stream())
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  private static ImmutableList<GcsObjectRange> createChunkRanges(
+      CompletableFuture<List<ByteBuffer>> chunksFuture, long offset, long length, int chunkSize) {
+    checkArgument(length >= 0, "Range length must not be negative, got %s", length);
+    checkArgument(chunkSize > 0, "Chunk size must be positive, got %s", chunkSize);
+    ImmutableList.Builder<GcsObjectRange> chunks = ImmutableList.builder();
+    for (long chunkOffset = 0; chunkOffset < length; chunkOffset += chunkSize) {
+      chunks.add(
+          GcsObjectRange.builder()
+              .setOffset(offset + chunkOffset)
+              .setLength((int) Math.min(chunkSize, length - chunkOffset))
+              .setByteBufferFuture(new CompletableFuture<>())
+              .build());
+    }
+    ImmutableList<GcsObjectRange> chunkList = chunks.build();
+    for (GcsObjectRange chunk : chunkList) {
+      var unused =
+          chunk
+              .getByteBufferFuture()
+              .whenComplete(
+                  (buffer, e) -> {
+                    if (e != null) {
+                      chunksFuture.completeExceptionally(unwrap(e));
+                    }
+                  });
+    }
+    var unused =
+        CompletableFuture.allOf(
+                chunkList.stream()
+                    .map(GcsObjectRange::getByteBufferFuture)
+                    .toArray(CompletableFuture<?>[]::new))
+            .thenRun(
+                () ->
+                    chunksFuture.complete(
+                        chunkList.stream()
+                            .map(chunk -> chunk.getByteBufferFuture().join())
+                            .collect(ImmutableList.toImmutableList())));
+    return chunkList;
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause()
+        : throwable;
+  }
+
+  public static Builder builder() {
+    return new AutoValue_GcsObjectChunkedRange.Builder().setChunkSize(DEFAULT_CHUNK_SIZE);
+  }
+
+  /** Builder for {@link GcsObjectChunkedRange}. */
+  @AutoValue.Builder
+  public abstract static class Builder {
+    public abstract Builder setChunksFuture(CompletableFuture<List<ByteBuffer>> chunksFuture);
+
+    public abstract Builder setOffset(long offset);
+
+    public abstract Builder setLength(long length);
+
+    public abstract Builder setChunkSize(int chunkSize);
+
+    abstract Builder setChunkRanges(ImmutableList<GcsObjectRange> chunkRanges);
+
+    abstract CompletableFuture<List<ByteBuffer>> getChunksFuture();
+
+    abstract long getOffset();
+
+    abstract long getLength();
+
+    abstract int getChunkSize();
+
+    abstract GcsObjectChunkedRange autoBuild();
+
+    public GcsObjectChunkedRange build() {
+      setChunkRanges(
+          createChunkRanges(getChunksFuture(), getOffset(), getLength(), getChunkSize()));
+      return autoBuild();
+    }
+  }
+}
@@ -67,7 +67,8 @@ public abstract class GcsObjectCombinedRange {
     long thisEnd = getOffset() + getLength();
     long rangeEnd = range.getOffset() + range.getLength();
     long newEnd = Math.max(thisEnd, rangeEnd);
-    int newLength = (int) (newEnd - newOffset);
+    // Fail rather than overflow, a combined range is read into a single buffer.
+    int newLength = Math.toIntExact(newEnd - newOffset);
 
     return toBuilder()
         .setUnderlyingRanges(newRanges.build())
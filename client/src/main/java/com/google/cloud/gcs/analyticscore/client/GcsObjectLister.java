@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.Blob;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Iterates over the listed objects one page of results at a time.
+ *
+ * <p>While the caller consumes a page, the next one is fetched in the background so that page
+ * requests overlap with the processing of their results. When the executor cannot take the fetch,
+ * it is left to the caller until it needs the page. Failures to fetch a page are thrown as {@link
+ * UncheckedIOException} by {@link #hasNext()}.
+ */
+class GcsObjectLister implements Iterator<GcsItemInfo> {
+  private final ExecutorService executorService;
+  private final String listedPath;
+  private Iterator<GcsItemInfo> currentPage = Collections.emptyIterator();
+  // Next page being fetched, or null once the last page has been reached.
+  private CompletableFuture<Page<Blob>> nextPage;
+  // Fetch of the next page the executor rejected, run once the caller needs the page.
+  private Runnable deferredFetch;
+
+  /**
+   * @param firstPage first page of the listing, already fetched.
+   * @param executorService executor fetching the following pages in the background.
+   * @param listedPath path being listed, for error messages.
+   */
+  GcsObjectLister(Page<Blob> firstPage, ExecutorService executorService, String listedPath) {
+    this.executorService = checkNotNull(executorService, "executorService must not be null");
+    this.listedPath = listedPath;
+    setPage(checkNotNull(firstPage, "firstPage must not be null"));
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!currentPage.hasNext()) {
+      if (nextPage == null) {
+        return false;
+      }
+      setPage(awaitNextPage());
+    }
+    return true;
+  }
+
+  @Override
+  public GcsItemInfo next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more objects in " + listedPath);
+    }
+    return currentPage.next();
+  }
+
+  private void setPage(Page<Blob> page) {
+    ImmutableList.Builder<GcsItemInfo> itemInfos = ImmutableList.builder();
+    for (Blob blob : page.getValues()) {
+      itemInfos.add(GcsClientImpl.toItemInfo(blob));
+    }
+    currentPage = itemInfos.build().iterator();
+    nextPage = page.hasNextPage() ? prefetchNextPage(page) : null;
+  }
+
+  private CompletableFuture<Page<Blob>> prefetchNextPage(Page<Blob> page) {
+    CompletableFuture<Page<Blob>> future = new CompletableFuture<>();
+    Runnable fetchNextPage =
+        () -> {
+          try {
+            future.complete(page.getNextPage());
+          } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+          }
+        };
+    try {
+      executorService.execute(
+          GcsReadScheduler.discardable(
+              GcsReadScheduler.Priority.NORMAL, /* channelSequence= */ 0, fetchNextPage));
+    } catch (RejectedExecutionException e) {
+      deferredFetch = fetchNextPage;
+    }
+    return future;
+  }
+
+  private Page<Blob> awaitNextPage() {
+    if (deferredFetch != null) {
+      Runnable fetchNextPage = deferredFetch;
+      deferredFetch = null;
+      fetchNextPage.run();
+    }
+    try {
+      return nextPage.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedIOException(
+          new InterruptedIOException("Interrupted while listing " + listedPath));
+    } catch (ExecutionException e) {
+      throw new UncheckedIOException(
+          new IOException("Unable to list objects in " + listedPath, e.getCause()));
+    }
+  }
+}
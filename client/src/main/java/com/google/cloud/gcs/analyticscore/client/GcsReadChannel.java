@@ -18,6 +18,7 @@ package com.google.cloud.gcs.analyticscore.client;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.cloud.BaseServiceException;
 import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
@@ -26,16 +27,46 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 class GcsReadChannel implements VectoredSeekableByteChannel {
   private static final Logger LOG = LoggerFactory.getLogger(GcsReadChannel.class);
+  // Release function of vectored reads whose buffers are never handed back to an allocator, which
+  // is compared by identity to skip tracking their release.
+  @SuppressWarnings("UnnecessaryLambda")
+  private static final Consumer<ByteBuffer> NO_RELEASE = buffer -> {};
+
   private Storage storage;
   private GcsReadOptions readOptions;
   private ReadChannel readChannel;
@@ -43,6 +74,46 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
   protected GcsItemId itemId;
   private long position = 0;
   private Supplier<ExecutorService> executorServiceSupplier;
+  private final Optional<GcsConcurrencyLimiter> concurrencyLimiter;
+  // Time to first byte of combined range reads, shared by the channels of the same client.
+  private final GcsLatencyTracker firstByteLatencies;
+  // Latency and bandwidth of combined range reads, shared by the channels of the same client.
+  private final GcsMergeGapTuner mergeGapTuner;
+  // Timer starting hedged requests, owned by the client. Reads are never hedged without one.
+  private final Optional<ScheduledExecutorService> hedgeTimer;
+
+  // Readahead state, only used when readahead is enabled in the read options. The current window
+  // serves reads while the next one is fetched in the background from the same read channel, so
+  // windows are read while holding the lock that close() takes before closing that channel.
+  private final Object readChannelLock = new Object();
+  private ByteBuffer readaheadBuffer;
+  private long readaheadBufferStart;
+  private Future<ByteBuffer> nextReadahead;
+  private long nextReadaheadStart;
+  private int readaheadSize;
+  private long readChannelPosition = 0;
+  private long lastReadEnd = 0;
+
+  // Access policy state. In random access mode, seeks are applied lazily on the next read so that
+  // the request can be bounded to the size of that read.
+  private boolean randomAccess;
+  private boolean randomRequestPending;
+  private long randomRequestLimit;
+  private int randomSeekCount;
+
+  // Whether the read channel has an open response that a small forward seek can drain from.
+  private boolean streaming;
+  private ByteBuffer drainBuffer;
+
+  // Vectored reads that have been submitted but not finished yet, cancelled on close.
+  private final Set<InFlightRead> inFlightReads = ConcurrentHashMap.newKeySet();
+
+  // Actions returning the buffers of ranges read with a release function, run by releaseRange.
+  private final Map<GcsObjectRange, Runnable> releaseHooks = new ConcurrentHashMap<>();
+
+  // Number of background reads submitted by this channel, used to interleave the queued reads of
+  // concurrent channels.
+  private final AtomicLong scheduledReads = new AtomicLong();
 
   GcsReadChannel(
       Storage storage,
@@ -50,6 +121,27 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
       GcsReadOptions readOptions,
       Supplier<ExecutorService> executorServiceSupplier)
       throws IOException {
+    this(
+        storage,
+        itemInfo,
+        readOptions,
+        executorServiceSupplier,
+        Optional.empty(),
+        new GcsLatencyTracker(),
+        new GcsMergeGapTuner(),
+        /* hedgeTimer= */ Optional.empty());
+  }
+
+  GcsReadChannel(
+      Storage storage,
+      GcsItemInfo itemInfo,
+      GcsReadOptions readOptions,
+      Supplier<ExecutorService> executorServiceSupplier,
+      Optional<GcsConcurrencyLimiter> concurrencyLimiter,
+      GcsLatencyTracker firstByteLatencies,
+      GcsMergeGapTuner mergeGapTuner,
+      Optional<ScheduledExecutorService> hedgeTimer)
+      throws IOException {
     checkNotNull(storage, "Storage instance cannot be null");
     checkNotNull(itemInfo, "Item info cannot be null");
     checkNotNull(executorServiceSupplier, "Thread pool supplier must not be null");
@@ -58,7 +150,13 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
     this.itemInfo = itemInfo;
     this.itemId = itemInfo.getItemId();
     this.executorServiceSupplier = executorServiceSupplier;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.firstByteLatencies = firstByteLatencies;
+    this.mergeGapTuner = mergeGapTuner;
+    this.hedgeTimer = hedgeTimer;
     this.readChannel = openReadChannel(itemId, readOptions);
+    this.randomAccess = readOptions.getAccessPolicy() == GcsReadOptions.AccessPolicy.RANDOM;
+    this.randomRequestPending = randomAccess;
   }
 
   GcsReadChannel(
@@ -67,6 +165,27 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
       GcsReadOptions readOptions,
       Supplier<ExecutorService> executorServiceSupplier)
       throws IOException {
+    this(
+        storage,
+        itemId,
+        readOptions,
+        executorServiceSupplier,
+        Optional.empty(),
+        new GcsLatencyTracker(),
+        new GcsMergeGapTuner(),
+        /* hedgeTimer= */ Optional.empty());
+  }
+
+  GcsReadChannel(
+      Storage storage,
+      GcsItemId itemId,
+      GcsReadOptions readOptions,
+      Supplier<ExecutorService> executorServiceSupplier,
+      Optional<GcsConcurrencyLimiter> concurrencyLimiter,
+      GcsLatencyTracker firstByteLatencies,
+      GcsMergeGapTuner mergeGapTuner,
+      Optional<ScheduledExecutorService> hedgeTimer)
+      throws IOException {
     checkNotNull(storage, "Storage instance cannot be null");
     checkNotNull(itemId, "Item id cannot be null");
     checkNotNull(executorServiceSupplier, "Thread pool supplier must not be null");
@@ -74,13 +193,33 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
     this.readOptions = readOptions;
     this.itemId = itemId;
     this.executorServiceSupplier = executorServiceSupplier;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.firstByteLatencies = firstByteLatencies;
+    this.mergeGapTuner = mergeGapTuner;
+    this.hedgeTimer = hedgeTimer;
     this.readChannel = openReadChannel(itemId, readOptions);
+    this.randomAccess = readOptions.getAccessPolicy() == GcsReadOptions.AccessPolicy.RANDOM;
+    this.randomRequestPending = randomAccess;
   }
 
   @Override
   public int read(ByteBuffer dst) throws IOException {
+    if (readOptions.isReadaheadEnabled()) {
+      return readWithReadahead(dst);
+    }
+    if (randomAccess) {
+      if (randomRequestPending || position >= randomRequestLimit) {
+        startRandomRequest(dst.remaining());
+      }
+    } else if (readChannelPosition != position) {
+      repositionReadChannel();
+    }
     int bytesRead = readChannel.read(dst);
     position += bytesRead;
+    if (bytesRead > 0) {
+      readChannelPosition += bytesRead;
+      streaming = true;
+    }
 
     return bytesRead;
   }
@@ -98,7 +237,15 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
   @Override
   public SeekableByteChannel position(long newPosition) throws IOException {
     validatePosition(newPosition);
-    readChannel.seek(newPosition);
+    if (readOptions.isReadaheadEnabled()) {
+      position = newPosition;
+      return this;
+    }
+    updateAccessPattern(newPosition);
+    if (randomAccess) {
+      randomRequestPending = true;
+    }
+    // In sequential mode the read channel is repositioned lazily on the next read.
     position = newPosition;
 
     return this;
@@ -124,63 +271,757 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
 
   @Override
   public void close() throws IOException {
-    if (readChannel.isOpen()) {
-      readChannel.close();
+    for (InFlightRead inFlightRead : inFlightReads) {
+      completeWithException(inFlightRead.combinedRange, new ClosedChannelException());
+      cancelInFlightRead(inFlightRead);
+    }
+    if (nextReadahead != null) {
+      nextReadahead.cancel(true);
+      nextReadahead = null;
+    }
+    // Waits for a readahead that was already running, which still uses the read channel.
+    synchronized (readChannelLock) {
+      if (readChannel.isOpen()) {
+        readChannel.close();
+      }
+    }
+  }
+
+  private void updateAccessPattern(long newPosition) {
+    if (randomAccess
+        || readOptions.getAccessPolicy() != GcsReadOptions.AccessPolicy.ADAPTIVE
+        || newPosition == position) {
+      return;
+    }
+    boolean backwardSeek = newPosition < position;
+    boolean longForwardSeek =
+        newPosition - position > readOptions.getAdaptiveForwardSeekDistance();
+    if ((backwardSeek || longForwardSeek)
+        && ++randomSeekCount >= readOptions.getAdaptiveRandomSeekThreshold()) {
+      LOG.debug("Switching {} to random access after {} seeks", itemId, randomSeekCount);
+      randomAccess = true;
+    }
+  }
+
+  private void startRandomRequest(int readSize) throws IOException {
+    long requestSize = Math.max(readSize, readOptions.getRandomAccessMinRequestSize());
+    randomRequestLimit = position + requestSize;
+    readChannel.seek(position);
+    readChannel.limit(randomRequestLimit);
+    readChannelPosition = position;
+    randomRequestPending = false;
+    streaming = false;
+  }
+
+  private void repositionReadChannel() throws IOException {
+    long skipBytes = position - readChannelPosition;
+    if (streaming && skipBytes > 0 && skipBytes <= readOptions.getSeekDrainThreshold()) {
+      if (drainReadChannel(skipBytes)) {
+        return;
+      }
+    }
+    readChannel.seek(position);
+    readChannelPosition = position;
+    streaming = false;
+  }
+
+  /** Reads and discards bytes from the open response, returns false if it ends early. */
+  private boolean drainReadChannel(long skipBytes) throws IOException {
+    if (drainBuffer == null) {
+      drainBuffer = ByteBuffer.allocate(Math.min(readOptions.getSeekDrainThreshold(), 64 * 1024));
+    }
+    long remaining = skipBytes;
+    while (remaining > 0) {
+      drainBuffer.clear();
+      drainBuffer.limit((int) Math.min(drainBuffer.capacity(), remaining));
+      int bytesRead = readChannel.read(drainBuffer);
+      if (bytesRead <= 0) {
+        return false;
+      }
+      readChannelPosition += bytesRead;
+      remaining -= bytesRead;
+    }
+    LOG.debug("Drained {} bytes of {} instead of seeking to {}", skipBytes, itemId, position);
+    return true;
+  }
+
+  private int readWithReadahead(ByteBuffer dst) throws IOException {
+    if (!dst.hasRemaining()) {
+      return 0;
+    }
+    if (!isInReadaheadBuffer(position)) {
+      fillReadaheadBuffer();
+    }
+    ByteBuffer bufferView = readaheadBuffer.duplicate();
+    bufferView.position((int) (position - readaheadBufferStart));
+    if (!bufferView.hasRemaining()) {
+      return -1;
+    }
+    int bytesToCopy = Math.min(dst.remaining(), bufferView.remaining());
+    bufferView.limit(bufferView.position() + bytesToCopy);
+    dst.put(bufferView);
+    position += bytesToCopy;
+    lastReadEnd = position;
+    return bytesToCopy;
+  }
+
+  private boolean isInReadaheadBuffer(long offset) {
+    if (readaheadBuffer == null || offset < readaheadBufferStart) {
+      return false;
+    }
+    long bufferEnd = readaheadBufferStart + readaheadBuffer.limit();
+    // A window shorter than requested ends at the end of the object.
+    boolean endOfObject = readaheadBuffer.limit() < readaheadBuffer.capacity();
+    return offset < bufferEnd || (endOfObject && offset == bufferEnd);
+  }
+
+  private void fillReadaheadBuffer() throws IOException {
+    boolean sequential = position == lastReadEnd;
+    if (nextReadahead != null && position == nextReadaheadStart) {
+      readaheadBuffer = awaitNextReadahead();
+    } else {
+      discardNextReadahead();
+      if (!sequential || readaheadSize == 0) {
+        readaheadSize = Math.max(1, readOptions.getReadaheadMinSize());
+      }
+      readaheadBuffer = readWindow(position, readaheadSize);
+    }
+    readaheadBufferStart = position;
+    if (sequential && readaheadBuffer.limit() == readaheadBuffer.capacity()) {
+      readaheadSize = (int) Math.min(2L * readaheadSize, readOptions.getReadaheadMaxSize());
+      scheduleNextReadahead(readaheadBufferStart + readaheadBuffer.limit(), readaheadSize);
+    }
+  }
+
+  private void scheduleNextReadahead(long start, int size) {
+    try {
+      nextReadahead =
+          executorServiceSupplier
+              .get()
+              .submit(
+                  GcsReadScheduler.prioritized(
+                      GcsReadScheduler.Priority.forReadSize(size),
+                      scheduledReads.getAndIncrement(),
+                      () -> readWindow(start, size)));
+      nextReadaheadStart = start;
+    } catch (RejectedExecutionException e) {
+      LOG.debug("Skipping readahead of {} at position {}: {}", itemId, start, e.getMessage());
+    }
+  }
+
+  private ByteBuffer awaitNextReadahead() throws IOException {
+    Future<ByteBuffer> pendingReadahead = nextReadahead;
+    nextReadahead = null;
+    try {
+      return pendingReadahead.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for readahead of " + itemId);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Readahead failed for " + itemId, e.getCause());
+    }
+  }
+
+  private void discardNextReadahead() throws InterruptedIOException {
+    if (nextReadahead == null) {
+      return;
+    }
+    // The readahead shares the read channel, so wait for it before repositioning the channel.
+    try {
+      awaitNextReadahead();
+    } catch (InterruptedIOException e) {
+      throw e;
+    } catch (IOException e) {
+      LOG.debug("Discarded failed readahead of {}: {}", itemId, e.getMessage());
+    }
+  }
+
+  private ByteBuffer readWindow(long start, int size) throws IOException {
+    synchronized (readChannelLock) {
+      if (!readChannel.isOpen()) {
+        throw new ClosedChannelException();
+      }
+      try {
+        if (readChannelPosition != start) {
+          readChannel.seek(start);
+          readChannelPosition = start;
+        }
+        ByteBuffer window =
+            readOptions.isDirectBuffersEnabled()
+                ? ByteBuffer.allocateDirect(size)
+                : ByteBuffer.allocate(size);
+        while (window.hasRemaining()) {
+          int bytesRead = readChannel.read(window);
+          if (bytesRead < 0) {
+            break;
+          }
+          readChannelPosition += bytesRead;
+        }
+        window.flip();
+        return window;
+      } catch (IOException e) {
+        // Force a seek on the next window as the channel position is unknown.
+        readChannelPosition = -1;
+        throw e;
+      }
     }
   }
 
   @Override
   public void readVectored(List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate)
       throws IOException {
+    readVectored(ranges, allocate, NO_RELEASE);
+  }
+
+  @Override
+  public void readVectored(
+      List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate, Consumer<ByteBuffer> release)
+      throws IOException {
+    readVectored(ranges, allocate, release, /* highPriority= */ false);
+  }
+
+  @Override
+  public void readVectoredHighPriority(
+      List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate) throws IOException {
+    readVectored(ranges, allocate, NO_RELEASE, /* highPriority= */ true);
+  }
+
+  private void readVectored(
+      List<GcsObjectRange> ranges,
+      IntFunction<ByteBuffer> allocate,
+      Consumer<ByteBuffer> release,
+      boolean highPriority)
+      throws IOException {
     ExecutorService executorService = executorServiceSupplier.get();
     checkNotNull(executorService, "Thread pool must not be null");
     GcsVectoredReadOptions vectoredReadOptions = readOptions.getGcsVectoredReadOptions();
     ImmutableList<GcsObjectCombinedRange> combinedRanges =
         VectoredIoUtil.mergeGcsObjectRanges(
             ImmutableList.copyOf(ranges),
-            vectoredReadOptions.getMaxMergeGap(),
+            getMergeGap(vectoredReadOptions),
             vectoredReadOptions.getMaxMergeSize());
 
+    int splitSize = vectoredReadOptions.getSplitSize();
     for (GcsObjectCombinedRange combinedRange : combinedRanges) {
+      GcsReadScheduler.Priority priority =
+          highPriority
+              ? GcsReadScheduler.Priority.HIGH
+              : GcsReadScheduler.Priority.forReadSize(combinedRange.getLength());
+      InFlightRead inFlightRead = trackInFlightRead(combinedRange);
+      if (splitSize > 0 && combinedRange.getLength() > splitSize) {
+        readSplitCombinedRange(
+            combinedRange, allocate, release, splitSize, priority, executorService, inFlightRead);
+        continue;
+      }
+      try {
+        inFlightRead.setTask(
+            executorService.submit(
+                GcsReadScheduler.prioritized(
+                    priority,
+                    scheduledReads.getAndIncrement(),
+                    () -> {
+                      try {
+                        if (vectoredReadOptions.isHedgeEnabled() && hedgeTimer.isPresent()) {
+                          readHedgedCombinedRange(
+                              combinedRange,
+                              allocate,
+                              release,
+                              executorService,
+                              vectoredReadOptions,
+                              inFlightRead);
+                        } else {
+                          readCombinedRange(combinedRange, allocate, release, inFlightRead);
+                        }
+                      } finally {
+                        inFlightReads.remove(inFlightRead);
+                      }
+                    })));
+      } catch (RejectedExecutionException e) {
+        inFlightReads.remove(inFlightRead);
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public void releaseRange(GcsObjectRange range) {
+    Runnable releaseHook = releaseHooks.remove(range);
+    if (releaseHook != null) {
+      releaseHook.run();
+    }
+  }
+
+  /**
+   * Registers a combined range read so that it is cancelled when the channel is closed, or once
+   * every underlying range has been cancelled or completed by the caller.
+   */
+  private InFlightRead trackInFlightRead(GcsObjectCombinedRange combinedRange) {
+    InFlightRead inFlightRead = new InFlightRead(combinedRange);
+    inFlightReads.add(inFlightRead);
+    for (GcsObjectRange underlyingRange : combinedRange.getUnderlyingRanges()) {
       var unused =
+          underlyingRange
+              .getByteBufferFuture()
+              .whenComplete(
+                  (buffer, e) -> {
+                    if (e instanceof CancellationException && isEveryRangeDone(combinedRange)) {
+                      cancelInFlightRead(inFlightRead);
+                    }
+                  });
+    }
+    return inFlightRead;
+  }
+
+  private int getMergeGap(GcsVectoredReadOptions vectoredReadOptions) {
+    if (!vectoredReadOptions.isMergeGapAutoTuneEnabled()) {
+      return vectoredReadOptions.getMaxMergeGap();
+    }
+    return mergeGapTuner
+        .getMergeGap(
+            vectoredReadOptions.getAutoTuneMinMergeGap(),
+            vectoredReadOptions.getAutoTuneMaxMergeGap())
+        .orElse(vectoredReadOptions.getMaxMergeGap());
+  }
+
+  private static boolean isEveryRangeDone(GcsObjectCombinedRange combinedRange) {
+    return combinedRange.getUnderlyingRanges().stream()
+        .allMatch(range -> range.getByteBufferFuture().isDone());
+  }
+
+  private void cancelInFlightRead(InFlightRead inFlightRead) {
+    inFlightReads.remove(inFlightRead);
+    inFlightRead.cancel();
+  }
+
+  private void readCombinedRange(
+      GcsObjectCombinedRange combinedObjectRange,
+      IntFunction<ByteBuffer> allocate,
+      Consumer<ByteBuffer> release,
+      InFlightRead inFlightRead) {
+    GcsConcurrencyLimiter.Permit permit = GcsConcurrencyLimiter.Permit.UNLIMITED;
+    try {
+      permit = acquireRequestPermit();
+      validatePosition(combinedObjectRange.getOffset());
+      ByteBuffer dataBuffer = allocate.apply(combinedObjectRange.getLength());
+      setReleaseHooks(combinedObjectRange, dataBuffer, release);
+      long startNanos = System.nanoTime();
+      // Complete each underlying range as soon as its bytes are in, instead of after the last one.
+      ReadRangeCompleter completeReadRanges =
+          new ReadRangeCompleter(combinedObjectRange, dataBuffer, startNanos);
+      int numOfBytesRead =
+          readWithResume(
+              combinedObjectRange.getOffset(), dataBuffer, inFlightRead, completeReadRanges);
+      permit.onSuccess(numOfBytesRead);
+      checkFullyRead(combinedObjectRange, numOfBytesRead);
+      // A read that returned no bytes has no first byte latency to learn from.
+      if (readOptions.getGcsVectoredReadOptions().isMergeGapAutoTuneEnabled()
+          && completeReadRanges.firstReadNanos != 0
+          && numOfBytesRead > 0) {
+        mergeGapTuner.record(
+            completeReadRanges.firstReadNanos - startNanos,
+            numOfBytesRead,
+            System.nanoTime() - startNanos);
+      }
+      // Only now, so that callers waiting on the last range see the read fully accounted for.
+      completeReadRanges.completeRemaining();
+    } catch (Exception e) {
+      permit.onFailure(e);
+      failCombinedObjectRange(combinedObjectRange, e);
+    }
+  }
+
+  /**
+   * Reads a combined range like {@link #readCombinedRange}, sending a second identical request if
+   * the first one has not returned any data once the hedging delay has passed. The first request
+   * to finish completes the range and the other one is cancelled. Each request reads into its own
+   * buffer, so the underlying ranges are only completed once the winning request is done, rather
+   * than as their bytes arrive.
+   */
+  private void readHedgedCombinedRange(
+      GcsObjectCombinedRange combinedObjectRange,
+      IntFunction<ByteBuffer> allocate,
+      Consumer<ByteBuffer> release,
+      ExecutorService executorService,
+      GcsVectoredReadOptions vectoredReadOptions,
+      InFlightRead inFlightRead) {
+    OptionalLong firstByteLatency =
+        firstByteLatencies.getPercentile(vectoredReadOptions.getHedgePercentile());
+    HedgedRead hedgedRead = new HedgedRead(combinedObjectRange, allocate, release);
+    InFlightRead hedgeRead = null;
+    if (firstByteLatency.isPresent()) {
+      long hedgeDelayNanos =
+          Math.max(
+              firstByteLatency.getAsLong(),
+              TimeUnit.MILLISECONDS.toNanos(vectoredReadOptions.getHedgeMinDelayMs()));
+      InFlightRead scheduledHedge = new InFlightRead(combinedObjectRange, inFlightRead);
+      try {
+        // The timer only hands the hedge over to the read executor, a hedge cancelled before its
+        // delay elapses is skipped by startHedge.
+        var unused =
+            hedgeTimer
+                .get()
+                .schedule(
+                    () -> startHedge(hedgedRead, executorService, scheduledHedge, inFlightRead),
+                    hedgeDelayNanos,
+                    TimeUnit.NANOSECONDS);
+        hedgeRead = scheduledHedge;
+      } catch (RejectedExecutionException e) {
+        // The client is closing, read without hedging.
+        LOG.debug("Not hedging read of {} in {}: {}", combinedObjectRange, itemId, e.toString());
+      }
+    }
+    readHedgeAttempt(hedgedRead, inFlightRead, hedgeRead);
+  }
+
+  private void startHedge(
+      HedgedRead hedgedRead,
+      ExecutorService executorService,
+      InFlightRead hedgeRead,
+      InFlightRead primaryRead) {
+    if (hedgeRead.isCancelled() || !hedgedRead.startHedge(primaryRead)) {
+      return;
+    }
+    LOG.debug("Hedging slow read of {} in {}", hedgedRead.combinedRange, itemId);
+    inFlightReads.add(hedgeRead);
+    try {
+      hedgeRead.setTask(
           executorService.submit(
+              GcsReadScheduler.discardable(
+                  GcsReadScheduler.Priority.NORMAL,
+                  scheduledReads.getAndIncrement(),
+                  () -> {
+                    try {
+                      readHedgeAttempt(hedgedRead, hedgeRead, primaryRead);
+                    } finally {
+                      inFlightReads.remove(hedgeRead);
+                    }
+                  })));
+    } catch (RejectedExecutionException e) {
+      inFlightReads.remove(hedgeRead);
+      if (hedgedRead.onAttemptFailed()) {
+        failCombinedObjectRange(hedgedRead.combinedRange, e);
+      }
+    }
+  }
+
+  /**
+   * Reads the whole combined range, resuming it like {@link #readCombinedRange} if it fails midway.
+   * Completes the range if no other attempt has done so yet, cancelling {@code otherAttempt}, and
+   * releases its buffer otherwise.
+   */
+  private void readHedgeAttempt(
+      HedgedRead hedgedRead, InFlightRead attemptRead, InFlightRead otherAttempt) {
+    GcsObjectCombinedRange combinedObjectRange = hedgedRead.combinedRange;
+    GcsConcurrencyLimiter.Permit permit = GcsConcurrencyLimiter.Permit.UNLIMITED;
+    ByteBuffer dataBuffer = null;
+    boolean completesRange = false;
+    try {
+      permit = acquireRequestPermit();
+      validatePosition(combinedObjectRange.getOffset());
+      dataBuffer = hedgedRead.allocate.apply(combinedObjectRange.getLength());
+      long startNanos = System.nanoTime();
+      AtomicBoolean firstBytesRead = new AtomicBoolean();
+      int numOfBytesRead =
+          readWithResume(
+              combinedObjectRange.getOffset(),
+              dataBuffer,
+              attemptRead,
               () -> {
-                readCombinedRange(combinedRange, allocate);
+                if (firstBytesRead.compareAndSet(false, true)) {
+                  hedgedRead.onFirstBytes();
+                  firstByteLatencies.record(System.nanoTime() - startNanos);
+                }
               });
+      permit.onSuccess(numOfBytesRead);
+      completesRange = hedgedRead.tryComplete();
+      if (!completesRange) {
+        hedgedRead.release.accept(dataBuffer);
+        return;
+      }
+      if (otherAttempt != null) {
+        otherAttempt.cancel();
+      }
+      setReleaseHooks(combinedObjectRange, dataBuffer, hedgedRead.release);
+      populateCombinedObjectRange(combinedObjectRange, numOfBytesRead, dataBuffer);
+    } catch (Exception e) {
+      permit.onFailure(e);
+      if (completesRange) {
+        failCombinedObjectRange(combinedObjectRange, e);
+        return;
+      }
+      if (dataBuffer != null) {
+        hedgedRead.release.accept(dataBuffer);
+      }
+      if (hedgedRead.onAttemptFailed()) {
+        failCombinedObjectRange(combinedObjectRange, e);
+      }
     }
   }
 
-  void readCombinedRange(
-      GcsObjectCombinedRange combinedObjectRange, IntFunction<ByteBuffer> allocate) {
-    try (ReadChannel channel = openReadChannel(itemId, readOptions)) {
+  /**
+   * Reads a combined range with one request per {@code splitSize} bytes, each filling its own part
+   * of a single buffer. The underlying ranges are completed once all the parts have been read.
+   */
+  private void readSplitCombinedRange(
+      GcsObjectCombinedRange combinedObjectRange,
+      IntFunction<ByteBuffer> allocate,
+      Consumer<ByteBuffer> release,
+      int splitSize,
+      GcsReadScheduler.Priority priority,
+      ExecutorService executorService,
+      InFlightRead inFlightRead) {
+    try {
       validatePosition(combinedObjectRange.getOffset());
-      channel.seek(combinedObjectRange.getOffset());
-      channel.limit(combinedObjectRange.getOffset() + combinedObjectRange.getLength());
       ByteBuffer dataBuffer = allocate.apply(combinedObjectRange.getLength());
-      int numOfBytesRead = 0;
-      while (dataBuffer.hasRemaining()) {
-        int bytesRead = channel.read(dataBuffer);
-        if (bytesRead < 0) {
-          // EOF reached.
+      setReleaseHooks(combinedObjectRange, dataBuffer, release);
+      Executor partExecutor =
+          task ->
+              executorService.execute(
+                  GcsReadScheduler.prioritized(
+                      priority, scheduledReads.getAndIncrement(), task));
+      List<CompletableFuture<Integer>> parts = new ArrayList<>();
+      for (int partOffset = 0;
+          partOffset < combinedObjectRange.getLength();
+          partOffset += splitSize) {
+        ByteBuffer partBuffer = dataBuffer.duplicate();
+        partBuffer.position(partOffset);
+        partBuffer.limit(Math.min(partOffset + splitSize, combinedObjectRange.getLength()));
+        long partStart = combinedObjectRange.getOffset() + partOffset;
+        try {
+          parts.add(
+              CompletableFuture.supplyAsync(
+                  () -> readRangePart(partStart, partBuffer, inFlightRead), partExecutor));
+        } catch (RejectedExecutionException e) {
+          // Parts already submitted still write to the buffer, so fail once they are done.
+          parts.add(CompletableFuture.failedFuture(e));
           break;
         }
-        numOfBytesRead += bytesRead;
       }
-      if (numOfBytesRead < combinedObjectRange.getLength()) {
-        throw new EOFException(
-            String.format(
-                "EOF reached while reading combinedObjectRange, range: %s, item: "
-                    + "%s, numRead: %d, expected: %d",
-                combinedObjectRange, itemId, numOfBytesRead, combinedObjectRange.getLength()));
+      var unused =
+          CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0]))
+              .whenComplete(
+                  (ignored, partFailure) -> {
+                    inFlightReads.remove(inFlightRead);
+                    if (partFailure != null) {
+                      failCombinedObjectRange(combinedObjectRange, unwrap(partFailure));
+                      return;
+                    }
+                    try {
+                      int numOfBytesRead = getContiguousBytesRead(parts, splitSize);
+                      dataBuffer.position(numOfBytesRead);
+                      populateCombinedObjectRange(combinedObjectRange, numOfBytesRead, dataBuffer);
+                    } catch (Exception e) {
+                      failCombinedObjectRange(combinedObjectRange, e);
+                    }
+                  });
+    } catch (Exception e) {
+      inFlightReads.remove(inFlightRead);
+      failCombinedObjectRange(combinedObjectRange, e);
+    }
+  }
+
+  private int readRangePart(long partStart, ByteBuffer partBuffer, InFlightRead inFlightRead) {
+    GcsConcurrencyLimiter.Permit permit = GcsConcurrencyLimiter.Permit.UNLIMITED;
+    inFlightRead.startPart();
+    try {
+      permit = acquireRequestPermit();
+      int numOfBytesRead =
+          readWithResume(partStart, partBuffer, inFlightRead, /* onBytesRead= */ () -> {});
+      permit.onSuccess(numOfBytesRead);
+      return numOfBytesRead;
+    } catch (IOException e) {
+      permit.onFailure(e);
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      permit.onFailure(e);
+      throw e;
+    } finally {
+      inFlightRead.finishPart();
+    }
+  }
+
+  /**
+   * Fills {@code buffer} with the object bytes starting at {@code offset}. When the request fails
+   * or its response ends before the end of the object, the object is reopened where the previous
+   * request stopped, up to the configured number of retries, so the bytes already received are
+   * not downloaded again.
+   *
+   * @param onBytesRead called on the reading thread every time bytes are added to the buffer.
+   * @return the number of bytes read, which is short of the buffer size only at the end of the
+   *     object or once the retries are exhausted.
+   */
+  private int readWithResume(
+      long offset, ByteBuffer buffer, InFlightRead inFlightRead, Runnable onBytesRead)
+      throws IOException {
+    GcsVectoredReadOptions vectoredReadOptions = readOptions.getGcsVectoredReadOptions();
+    int maxRetries = vectoredReadOptions.getResumeMaxRetries();
+    int startPosition = buffer.position();
+    for (int retry = 0; ; retry++) {
+      long resumeOffset = offset + buffer.position() - startPosition;
+      try (ReadChannel channel = openReadChannel(itemId, readOptions)) {
+        channel.seek(resumeOffset);
+        channel.limit(resumeOffset + buffer.remaining());
+        readFully(channel, buffer, inFlightRead, onBytesRead);
+        long readEnd = offset + buffer.position() - startPosition;
+        if (!buffer.hasRemaining() || retry >= maxRetries || !isBeforeObjectEnd(readEnd)) {
+          return buffer.position() - startPosition;
+        }
+        LOG.debug("Response for {} ended early at {}, resuming", itemId, readEnd);
+      } catch (IOException | RuntimeException e) {
+        if (retry >= maxRetries || inFlightRead.isCancelled() || !isResumable(e)) {
+          throw e;
+        }
+        LOG.debug("Read of {} failed at {}, resuming: {}", itemId, resumeOffset, e.toString());
       }
-      // making it ready for reading
-      dataBuffer.flip();
-      for (GcsObjectRange underlyingRange : combinedObjectRange.getUnderlyingRanges()) {
-        populateGcsObjectRangeFromCombinedObjectRange(
-            combinedObjectRange, underlyingRange, numOfBytesRead, dataBuffer);
+      sleepBeforeResume(vectoredReadOptions.getResumeInitialBackoffMs(), retry);
+    }
+  }
+
+  private boolean isBeforeObjectEnd(long position) {
+    try {
+      return position < size();
+    } catch (IOException e) {
+      // Without the object size, a short response is taken as the end of the object.
+      LOG.debug("Could not get the size of {}: {}", itemId, e.toString());
+      return false;
+    }
+  }
+
+  /** Failures caused by cancellation, or that GCS reports as permanent, are not retried. */
+  private static boolean isResumable(Exception e) {
+    if (e instanceof InterruptedIOException || e instanceof ClosedChannelException) {
+      return false;
+    }
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof BaseServiceException) {
+        return ((BaseServiceException) cause).isRetryable();
       }
-    } catch (Exception e) {
-      completeWithException(combinedObjectRange, e);
+    }
+    return e instanceof IOException;
+  }
+
+  private static void sleepBeforeResume(int initialBackoffMs, int retry)
+      throws InterruptedIOException {
+    try {
+      // Double the backoff on every retry, capping the exponent to avoid overflows.
+      Thread.sleep((long) initialBackoffMs << Math.min(retry, 16));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to resume a vectored read");
+    }
+  }
+
+  /** Waits until the concurrency limiter, if any, allows one more request to the bucket. */
+  private GcsConcurrencyLimiter.Permit acquireRequestPermit() throws InterruptedIOException {
+    return concurrencyLimiter.isPresent()
+        ? concurrencyLimiter.get().acquire(itemId.getBucketName())
+        : GcsConcurrencyLimiter.Permit.UNLIMITED;
+  }
+
+  /** Returns the number of bytes read from the start of the range up to the first short part. */
+  private static int getContiguousBytesRead(List<CompletableFuture<Integer>> parts, int splitSize) {
+    int numOfBytesRead = 0;
+    for (CompletableFuture<Integer> part : parts) {
+      int partBytesRead = part.join();
+      numOfBytesRead += partBytesRead;
+      if (partBytesRead < splitSize) {
+        break;
+      }
+    }
+    return numOfBytesRead;
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    Throwable cause = throwable;
+    if (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof UncheckedIOException) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  private static int readFully(
+      ReadChannel channel, ByteBuffer buffer, InFlightRead inFlightRead, Runnable onBytesRead)
+      throws IOException {
+    int numOfBytesRead = 0;
+    while (buffer.hasRemaining()) {
+      if (inFlightRead.isCancelled()) {
+        throw new InterruptedIOException("Vectored read was cancelled");
+      }
+      int bytesRead = channel.read(buffer);
+      if (bytesRead < 0) {
+        // EOF reached.
+        break;
+      }
+      numOfBytesRead += bytesRead;
+      if (bytesRead > 0) {
+        onBytesRead.run();
+      }
+    }
+    return numOfBytesRead;
+  }
+
+  /** Completes the underlying ranges from a buffer positioned after the bytes read. */
+  private void populateCombinedObjectRange(
+      GcsObjectCombinedRange combinedObjectRange, int numOfBytesRead, ByteBuffer dataBuffer)
+      throws EOFException {
+    checkFullyRead(combinedObjectRange, numOfBytesRead);
+    // making it ready for reading
+    dataBuffer.flip();
+    for (GcsObjectRange underlyingRange : combinedObjectRange.getUnderlyingRanges()) {
+      populateGcsObjectRangeFromCombinedObjectRange(
+          combinedObjectRange, underlyingRange, numOfBytesRead, dataBuffer);
+    }
+  }
+
+  private void checkFullyRead(GcsObjectCombinedRange combinedObjectRange, int numOfBytesRead)
+      throws EOFException {
+    if (numOfBytesRead < combinedObjectRange.getLength()) {
+      throw new EOFException(
+          String.format(
+              "EOF reached while reading combinedObjectRange, range: %s, item: "
+                  + "%s, numRead: %d, expected: %d",
+              combinedObjectRange, itemId, numOfBytesRead, combinedObjectRange.getLength()));
+    }
+  }
+
+  private void failCombinedObjectRange(GcsObjectCombinedRange combinedObjectRange, Throwable e) {
+    // Ranges that were not populated never expose the buffer, so release it on their behalf.
+    for (GcsObjectRange child : combinedObjectRange.getUnderlyingRanges()) {
+      CompletableFuture<ByteBuffer> childFuture = child.getByteBufferFuture();
+      if (!childFuture.isDone() || childFuture.isCompletedExceptionally()) {
+        releaseRange(child);
+      }
+    }
+    completeWithException(combinedObjectRange, e);
+  }
+
+  /**
+   * The combined buffer is shared by all the underlying ranges, so it is only handed back to the
+   * allocator once each of them has been released.
+   */
+  private void setReleaseHooks(
+      GcsObjectCombinedRange combinedObjectRange,
+      ByteBuffer dataBuffer,
+      Consumer<ByteBuffer> release) {
+    if (release == NO_RELEASE) {
+      return;
+    }
+    ImmutableList<GcsObjectRange> underlyingRanges = combinedObjectRange.getUnderlyingRanges();
+    AtomicInteger unreleasedRanges = new AtomicInteger(underlyingRanges.size());
+    Runnable releaseHook =
+        () -> {
+          if (unreleasedRanges.decrementAndGet() == 0) {
+            release.accept(dataBuffer);
+          }
+        };
+    for (GcsObjectRange underlyingRange : underlyingRanges) {
+      releaseHooks.put(underlyingRange, releaseHook);
     }
   }
 
@@ -193,9 +1034,9 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
     long maxPosition = combinedObjectRange.getOffset() + numOfBytesRead;
     long objectRangeEndPosition = objectRange.getOffset() + objectRange.getLength();
     if (objectRangeEndPosition <= maxPosition) {
-      ByteBuffer childBuffer =
-          VectoredIoUtil.fetchUnderlyingRangeData(dataBuffer, combinedObjectRange, objectRange);
-      objectRange.getByteBufferFuture().complete(childBuffer);
+      completeUnderlyingRange(
+          objectRange,
+          VectoredIoUtil.fetchUnderlyingRangeData(dataBuffer, combinedObjectRange, objectRange));
     } else {
       throw new EOFException(
           String.format(
@@ -206,6 +1047,13 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
     }
   }
 
+  private void completeUnderlyingRange(GcsObjectRange objectRange, ByteBuffer childBuffer) {
+    if (!objectRange.getByteBufferFuture().complete(childBuffer)) {
+      // Already completed by the caller, e.g. cancelled, so nobody will release it.
+      releaseRange(objectRange);
+    }
+  }
+
   private void completeWithException(GcsObjectCombinedRange combinedObjectRange, Throwable e) {
     for (GcsObjectRange child : combinedObjectRange.getUnderlyingRanges()) {
       if (!child.getByteBufferFuture().isDone()) {
@@ -252,4 +1100,185 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
               "Invalid seek offset: position value (%d) must be >= 0 for '%s'", position, itemId));
     }
   }
+
+  /** A submitted combined range read, which can be cancelled before or while it runs. */
+  private static final class InFlightRead {
+    private final GcsObjectCombinedRange combinedRange;
+    // The read this one duplicates, if any. Cancelling the parent also stops this read.
+    private final InFlightRead parent;
+    private volatile boolean cancelled;
+    private volatile Future<?> task;
+    // Threads reading the parts of a split read, which has no task of its own to cancel.
+    private final Set<Thread> partReaders = new HashSet<>();
+
+    private InFlightRead(GcsObjectCombinedRange combinedRange) {
+      this(combinedRange, /* parent= */ null);
+    }
+
+    private InFlightRead(GcsObjectCombinedRange combinedRange, InFlightRead parent) {
+      this.combinedRange = combinedRange;
+      this.parent = parent;
+    }
+
+    private void setTask(Future<?> task) {
+      this.task = task;
+      if (cancelled) {
+        task.cancel(true);
+      }
+    }
+
+    /** Stops the read at its next chunk, interrupting it if it is blocked on the network. */
+    private void cancel() {
+      cancelled = true;
+      Future<?> runningTask = task;
+      if (runningTask != null) {
+        runningTask.cancel(true);
+      }
+      synchronized (partReaders) {
+        for (Thread partReader : partReaders) {
+          partReader.interrupt();
+        }
+      }
+    }
+
+    /** Lets {@link #cancel} interrupt the current thread until {@link #finishPart}. */
+    private void startPart() {
+      synchronized (partReaders) {
+        partReaders.add(Thread.currentThread());
+      }
+    }
+
+    private void finishPart() {
+      synchronized (partReaders) {
+        partReaders.remove(Thread.currentThread());
+      }
+      if (cancelled) {
+        // Clears an interrupt of the cancellation, so it does not reach the next task of the
+        // thread.
+        Thread.interrupted();
+      }
+    }
+
+    private boolean isCancelled() {
+      return cancelled || (parent != null && parent.isCancelled());
+    }
+  }
+
+  /**
+   * Completes the underlying ranges of a combined range as soon as the bytes covering them have
+   * been read into the combined buffer, whatever their offset order. Runs on the reading thread,
+   * between two reads into the buffer. The ranges ending with the combined range are left to
+   * {@link #completeRemaining}, so the read can be accounted for before they are handed out. Also
+   * records the first byte latency of the read, so that non-hedged reads feed the hedging delay as
+   * well.
+   */
+  private final class ReadRangeCompleter implements Runnable {
+    private final GcsObjectCombinedRange combinedRange;
+    private final ByteBuffer dataBuffer;
+    private final long startNanos;
+    // The underlying ranges in end order, the first nextRange of them are completed.
+    private final GcsObjectRange[] rangesByEnd;
+    private int nextRange;
+    // When the first bytes were read into the buffer, 0 until then.
+    private long firstReadNanos;
+
+    private ReadRangeCompleter(
+        GcsObjectCombinedRange combinedRange, ByteBuffer dataBuffer, long startNanos) {
+      this.combinedRange = combinedRange;
+      this.dataBuffer = dataBuffer;
+      this.startNanos = startNanos;
+      this.rangesByEnd = combinedRange.getUnderlyingRanges().toArray(new GcsObjectRange[0]);
+      Arrays.sort(rangesByEnd, Comparator.comparingLong(GcsReadChannel::getEnd));
+    }
+
+    @Override
+    public void run() {
+      if (firstReadNanos == 0) {
+        firstReadNanos = System.nanoTime();
+        firstByteLatencies.record(firstReadNanos - startNanos);
+      }
+      long readEnd = combinedRange.getOffset() + dataBuffer.position();
+      long combinedEnd = combinedRange.getOffset() + combinedRange.getLength();
+      completeUpTo(Math.min(readEnd, combinedEnd - 1));
+    }
+
+    /** Completes the ranges still pending, once the whole combined range has been read. */
+    private void completeRemaining() {
+      completeUpTo(combinedRange.getOffset() + dataBuffer.position());
+    }
+
+    private void completeUpTo(long readEnd) {
+      ByteBuffer readBytes = null;
+      while (nextRange < rangesByEnd.length && getEnd(rangesByEnd[nextRange]) <= readEnd) {
+        GcsObjectRange underlyingRange = rangesByEnd[nextRange++];
+        if (readBytes == null) {
+          // A view of the bytes read so far, leaving the buffer position to the reader.
+          readBytes = dataBuffer.duplicate();
+          readBytes.flip();
+        }
+        completeUnderlyingRange(
+            underlyingRange,
+            VectoredIoUtil.fetchUnderlyingRangeData(readBytes, combinedRange, underlyingRange));
+      }
+    }
+  }
+
+  private static long getEnd(GcsObjectRange range) {
+    return range.getOffset() + range.getLength();
+  }
+
+  /**
+   * The state shared by the two requests of a hedged combined range read. Only one of them
+   * completes the range; the range fails once every request that was started has failed.
+   */
+  private static final class HedgedRead {
+    private final GcsObjectCombinedRange combinedRange;
+    private final IntFunction<ByteBuffer> allocate;
+    private final Consumer<ByteBuffer> release;
+    private volatile boolean firstBytesReceived;
+    private int runningAttempts = 1;
+    private boolean done;
+
+    private HedgedRead(
+        GcsObjectCombinedRange combinedRange,
+        IntFunction<ByteBuffer> allocate,
+        Consumer<ByteBuffer> release) {
+      this.combinedRange = combinedRange;
+      this.allocate = allocate;
+      this.release = release;
+    }
+
+    /** Returns whether the hedge request should be sent, registering it if so. */
+    private synchronized boolean startHedge(InFlightRead primaryRead) {
+      if (done || firstBytesReceived || primaryRead.isCancelled()) {
+        return false;
+      }
+      runningAttempts++;
+      return true;
+    }
+
+    private void onFirstBytes() {
+      firstBytesReceived = true;
+    }
+
+    /** Returns whether the calling attempt is the first to finish and completes the range. */
+    private synchronized boolean tryComplete() {
+      runningAttempts--;
+      if (done) {
+        return false;
+      }
+      done = true;
+      return true;
+    }
+
+    /** Returns whether the calling attempt was the last one running and must fail the range. */
+    private synchronized boolean onAttemptFailed() {
+      runningAttempts--;
+      if (done || runningAttempts > 0) {
+        return false;
+      }
+      done = true;
+      return true;
+    }
+  }
 }
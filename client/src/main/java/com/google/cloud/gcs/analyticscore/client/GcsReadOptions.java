@@ -15,6 +15,8 @@
  */
 package com.google.cloud.gcs.analyticscore.client;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.auto.value.AutoValue;
 import java.util.Map;
 import java.util.Optional;
@@ -26,6 +28,8 @@ public abstract class GcsReadOptions {
   private static final String DECRYPTION_KEY_KEY = "decryption-key";
   private static final String FOOTER_PREFETCH_ENABLED_KEY =
       "analytics-core.footer.prefetch.enabled";
+  private static final String FOOTER_PREFETCH_ASYNC_ENABLED_KEY =
+      "analytics-core.footer.prefetch.async.enabled";
   private static final String SMALL_FILE_FOOTER_PREFETCH_SIZE_KEY =
       "analytics-core.small-file.footer.prefetch.size-bytes";
   private static final String SMALL_FILE_CACHE_THRESHOLD_KEY =
@@ -33,11 +37,52 @@ public abstract class GcsReadOptions {
   private static final String LARGE_FILE_FOOTER_PREFETCH_SIZE_KEY =
       "analytics-core.large-file.footer.prefetch.size-bytes";
   private static final String USER_PROJECT_KEY = "user-project";
+  private static final String POSITIONAL_READ_CHANNEL_POOL_SIZE_KEY =
+      "analytics-core.read.positional.channel-pool.size";
+  private static final String READAHEAD_ENABLED_KEY = "analytics-core.read.readahead.enabled";
+  private static final String READAHEAD_MIN_SIZE_KEY =
+      "analytics-core.read.readahead.min-size-bytes";
+  private static final String READAHEAD_MAX_SIZE_KEY =
+      "analytics-core.read.readahead.max-size-bytes";
+  private static final String ACCESS_POLICY_KEY = "analytics-core.read.access-policy";
+  private static final String RANDOM_ACCESS_MIN_REQUEST_SIZE_KEY =
+      "analytics-core.read.random.min-request-size-bytes";
+  private static final String ADAPTIVE_RANDOM_SEEK_THRESHOLD_KEY =
+      "analytics-core.read.adaptive.random-seek.threshold";
+  private static final String ADAPTIVE_FORWARD_SEEK_DISTANCE_KEY =
+      "analytics-core.read.adaptive.forward-seek.distance-bytes";
+  private static final String SEEK_DRAIN_THRESHOLD_KEY =
+      "analytics-core.read.seek.drain-threshold-bytes";
+  private static final String DIRECT_BUFFERS_ENABLED_KEY =
+      "analytics-core.read.direct-buffers.enabled";
+  private static final String CACHED_RANGE_VIEWS_ENABLED_KEY =
+      "analytics-core.read.cached-range-views.enabled";
 
   private static final boolean DEFAULT_FOOTER_PREFETCH_ENABLED = true;
+  private static final boolean DEFAULT_FOOTER_PREFETCH_ASYNC_ENABLED = false;
   private static final int DEFAULT_SMALL_FILE_FOOTER_PREFETCH_SIZE = 100 * 1024; // 100kb
   private static final int DEFAULT_LARGE_FILE_FOOTER_PREFETCH_SIZE = 1024 * 1024; // 1mb
   private static final int DEFAULT_SMALL_FILE_CACHE_THRESHOLD = 0; // 0 bytes = disabled
+  private static final int DEFAULT_POSITIONAL_READ_CHANNEL_POOL_SIZE = 0; // 0 = disabled
+  private static final boolean DEFAULT_READAHEAD_ENABLED = false;
+  private static final int DEFAULT_READAHEAD_MIN_SIZE = 1024 * 1024; // 1mb
+  private static final int DEFAULT_READAHEAD_MAX_SIZE = 8 * 1024 * 1024; // 8mb
+  private static final int DEFAULT_RANDOM_ACCESS_MIN_REQUEST_SIZE = 64 * 1024; // 64kb
+  private static final int DEFAULT_ADAPTIVE_RANDOM_SEEK_THRESHOLD = 2;
+  private static final long DEFAULT_ADAPTIVE_FORWARD_SEEK_DISTANCE = 1024 * 1024; // 1mb
+  private static final int DEFAULT_SEEK_DRAIN_THRESHOLD = 1024 * 1024; // 1mb
+  private static final boolean DEFAULT_DIRECT_BUFFERS_ENABLED = false;
+  private static final boolean DEFAULT_CACHED_RANGE_VIEWS_ENABLED = false;
+
+  /** How the read channel expects the object to be accessed, similar to posix_fadvise. */
+  public enum AccessPolicy {
+    /** Requests stream from the read position to the end of the object. */
+    SEQUENTIAL,
+    /** Requests are bounded to the size of each read, but at least the minimum request size. */
+    RANDOM,
+    /** Starts as {@link #SEQUENTIAL} and switches to {@link #RANDOM} after repeated seeks. */
+    ADAPTIVE,
+  }
 
   public abstract Optional<Integer> getChunkSize();
 
@@ -51,17 +96,57 @@ public abstract class GcsReadOptions {
 
   public abstract boolean isFooterPrefetchEnabled();
 
+  public abstract boolean isFooterPrefetchAsyncEnabled();
+
   public abstract int getSmallObjectCacheSize();
 
+  public abstract int getPositionalReadChannelPoolSize();
+
+  public abstract boolean isReadaheadEnabled();
+
+  public abstract int getReadaheadMinSize();
+
+  public abstract int getReadaheadMaxSize();
+
+  public abstract AccessPolicy getAccessPolicy();
+
+  public abstract int getRandomAccessMinRequestSize();
+
+  public abstract int getAdaptiveRandomSeekThreshold();
+
+  public abstract long getAdaptiveForwardSeekDistance();
+
+  public abstract int getSeekDrainThreshold();
+
+  public abstract boolean isDirectBuffersEnabled();
+
+  /**
+   * Whether vectored ranges served from the cached object or footer are completed with read-only
+   * views of the cache instead of copies in buffers from the caller's allocate function.
+   */
+  public abstract boolean isCachedRangeViewsEnabled();
+
   public abstract GcsVectoredReadOptions getGcsVectoredReadOptions();
 
   public static Builder builder() {
     return new AutoValue_GcsReadOptions.Builder()
         .setGcsVectoredReadOptions(GcsVectoredReadOptions.builder().build())
         .setFooterPrefetchEnabled(DEFAULT_FOOTER_PREFETCH_ENABLED)
+        .setFooterPrefetchAsyncEnabled(DEFAULT_FOOTER_PREFETCH_ASYNC_ENABLED)
         .setFooterPrefetchSizeSmallFile(DEFAULT_SMALL_FILE_FOOTER_PREFETCH_SIZE)
         .setFooterPrefetchSizeLargeFile(DEFAULT_LARGE_FILE_FOOTER_PREFETCH_SIZE)
-        .setSmallObjectCacheSize(DEFAULT_SMALL_FILE_CACHE_THRESHOLD);
+        .setSmallObjectCacheSize(DEFAULT_SMALL_FILE_CACHE_THRESHOLD)
+        .setPositionalReadChannelPoolSize(DEFAULT_POSITIONAL_READ_CHANNEL_POOL_SIZE)
+        .setReadaheadEnabled(DEFAULT_READAHEAD_ENABLED)
+        .setReadaheadMinSize(DEFAULT_READAHEAD_MIN_SIZE)
+        .setReadaheadMaxSize(DEFAULT_READAHEAD_MAX_SIZE)
+        .setAccessPolicy(AccessPolicy.SEQUENTIAL)
+        .setRandomAccessMinRequestSize(DEFAULT_RANDOM_ACCESS_MIN_REQUEST_SIZE)
+        .setAdaptiveRandomSeekThreshold(DEFAULT_ADAPTIVE_RANDOM_SEEK_THRESHOLD)
+        .setAdaptiveForwardSeekDistance(DEFAULT_ADAPTIVE_FORWARD_SEEK_DISTANCE)
+        .setSeekDrainThreshold(DEFAULT_SEEK_DRAIN_THRESHOLD)
+        .setDirectBuffersEnabled(DEFAULT_DIRECT_BUFFERS_ENABLED)
+        .setCachedRangeViewsEnabled(DEFAULT_CACHED_RANGE_VIEWS_ENABLED);
   }
 
   public static GcsReadOptions createFromOptions(
@@ -81,6 +166,11 @@ public abstract class GcsReadOptions {
       optionsBuilder.setFooterPrefetchEnabled(
           Boolean.parseBoolean(analyticsCoreOptions.get(prefix + FOOTER_PREFETCH_ENABLED_KEY)));
     }
+    if (analyticsCoreOptions.containsKey(prefix + FOOTER_PREFETCH_ASYNC_ENABLED_KEY)) {
+      optionsBuilder.setFooterPrefetchAsyncEnabled(
+          Boolean.parseBoolean(
+              analyticsCoreOptions.get(prefix + FOOTER_PREFETCH_ASYNC_ENABLED_KEY)));
+    }
     if (analyticsCoreOptions.containsKey(prefix + SMALL_FILE_FOOTER_PREFETCH_SIZE_KEY)) {
       optionsBuilder.setFooterPrefetchSizeSmallFile(
           safeParseInteger(analyticsCoreOptions, prefix + SMALL_FILE_FOOTER_PREFETCH_SIZE_KEY));
@@ -93,6 +183,50 @@ public abstract class GcsReadOptions {
       optionsBuilder.setSmallObjectCacheSize(
           safeParseInteger(analyticsCoreOptions, prefix + SMALL_FILE_CACHE_THRESHOLD_KEY));
     }
+    if (analyticsCoreOptions.containsKey(prefix + POSITIONAL_READ_CHANNEL_POOL_SIZE_KEY)) {
+      optionsBuilder.setPositionalReadChannelPoolSize(
+          safeParseInteger(analyticsCoreOptions, prefix + POSITIONAL_READ_CHANNEL_POOL_SIZE_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + READAHEAD_ENABLED_KEY)) {
+      optionsBuilder.setReadaheadEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + READAHEAD_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + READAHEAD_MIN_SIZE_KEY)) {
+      optionsBuilder.setReadaheadMinSize(
+          safeParseInteger(analyticsCoreOptions, prefix + READAHEAD_MIN_SIZE_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + READAHEAD_MAX_SIZE_KEY)) {
+      optionsBuilder.setReadaheadMaxSize(
+          safeParseInteger(analyticsCoreOptions, prefix + READAHEAD_MAX_SIZE_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + ACCESS_POLICY_KEY)) {
+      optionsBuilder.setAccessPolicy(
+          AccessPolicy.valueOf(analyticsCoreOptions.get(prefix + ACCESS_POLICY_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + RANDOM_ACCESS_MIN_REQUEST_SIZE_KEY)) {
+      optionsBuilder.setRandomAccessMinRequestSize(
+          safeParseInteger(analyticsCoreOptions, prefix + RANDOM_ACCESS_MIN_REQUEST_SIZE_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + ADAPTIVE_RANDOM_SEEK_THRESHOLD_KEY)) {
+      optionsBuilder.setAdaptiveRandomSeekThreshold(
+          safeParseInteger(analyticsCoreOptions, prefix + ADAPTIVE_RANDOM_SEEK_THRESHOLD_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + ADAPTIVE_FORWARD_SEEK_DISTANCE_KEY)) {
+      optionsBuilder.setAdaptiveForwardSeekDistance(
+          Long.parseLong(analyticsCoreOptions.get(prefix + ADAPTIVE_FORWARD_SEEK_DISTANCE_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + SEEK_DRAIN_THRESHOLD_KEY)) {
+      optionsBuilder.setSeekDrainThreshold(
+          safeParseInteger(analyticsCoreOptions, prefix + SEEK_DRAIN_THRESHOLD_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + DIRECT_BUFFERS_ENABLED_KEY)) {
+      optionsBuilder.setDirectBuffersEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + DIRECT_BUFFERS_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + CACHED_RANGE_VIEWS_ENABLED_KEY)) {
+      optionsBuilder.setCachedRangeViewsEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + CACHED_RANGE_VIEWS_ENABLED_KEY)));
+    }
     optionsBuilder.setGcsVectoredReadOptions(
         GcsVectoredReadOptions.createFromOptions(analyticsCoreOptions, prefix));
 
@@ -124,12 +258,46 @@ public abstract class GcsReadOptions {
 
     public abstract Builder setFooterPrefetchEnabled(boolean footerPrefetchEnabled);
 
+    public abstract Builder setFooterPrefetchAsyncEnabled(boolean footerPrefetchAsyncEnabled);
+
     public abstract Builder setFooterPrefetchSizeSmallFile(int footerPrefetchSizeSmallFile);
 
     public abstract Builder setFooterPrefetchSizeLargeFile(int footerPrefetchSizeLargeFile);
 
     public abstract Builder setSmallObjectCacheSize(int smallObjectCacheSize);
 
-    public abstract GcsReadOptions build();
+    public abstract Builder setPositionalReadChannelPoolSize(int positionalReadChannelPoolSize);
+
+    public abstract Builder setReadaheadEnabled(boolean readaheadEnabled);
+
+    public abstract Builder setReadaheadMinSize(int readaheadMinSize);
+
+    public abstract Builder setReadaheadMaxSize(int readaheadMaxSize);
+
+    public abstract Builder setAccessPolicy(AccessPolicy accessPolicy);
+
+    public abstract Builder setRandomAccessMinRequestSize(int randomAccessMinRequestSize);
+
+    public abstract Builder setAdaptiveRandomSeekThreshold(int adaptiveRandomSeekThreshold);
+
+    public abstract Builder setAdaptiveForwardSeekDistance(long adaptiveForwardSeekDistance);
+
+    public abstract Builder setSeekDrainThreshold(int seekDrainThreshold);
+
+    public abstract Builder setDirectBuffersEnabled(boolean directBuffersEnabled);
+
+    public abstract Builder setCachedRangeViewsEnabled(boolean cachedRangeViewsEnabled);
+
+    abstract GcsReadOptions autoBuild();
+
+    public GcsReadOptions build() {
+      GcsReadOptions readOptions = autoBuild();
+      checkArgument(
+          readOptions.getReadaheadMinSize() <= readOptions.getReadaheadMaxSize(),
+          "Readahead min size %s must not exceed readahead max size %s",
+          readOptions.getReadaheadMinSize(),
+          readOptions.getReadaheadMaxSize());
+      return readOptions;
+    }
   }
 }
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import java.util.Comparator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The thread pool running the background reads of a {@link GcsFileSystem}.
+ *
+ * <p>Queued reads are ordered by {@link Priority} first. Within a priority, reads are ordered by
+ * their position in the queue of the channel that submitted them, so a channel that just started
+ * reading does not wait behind every read already queued by another one. Reads submitted without
+ * a priority, e.g. through {@link java.util.concurrent.CompletableFuture}, are treated as {@link
+ * Priority#NORMAL} reads of their own.
+ *
+ * <p>The queue is unbounded unless a maximum size is given. When the queue is bounded and full, the
+ * submitting thread runs the read itself. This slows
+ * down the streams producing the most reads instead of letting the queue grow without limit. Reads
+ * that are only worth doing when there is spare capacity, see {@link #discardable}, are rejected
+ * instead.
+ */
+class GcsReadScheduler extends ThreadPoolExecutor {
+
+  /** Reads up to this size are considered small. */
+  static final int SMALL_READ_SIZE = 1024 * 1024; // 1 MB
+
+  /** Order in which queued reads are started. */
+  enum Priority {
+    /** Metadata and footer reads, which other reads of the stream usually depend on. */
+    HIGH,
+    /** Small reads, typically issued for a query that is waiting on them. */
+    NORMAL,
+    /** Large reads, typically bulk column chunk or readahead downloads. */
+    LOW;
+
+    static Priority forReadSize(long readSize) {
+      return readSize <= SMALL_READ_SIZE ? NORMAL : LOW;
+    }
+  }
+
+  /** Queued tasks by priority, then channel sequence, then submission order. */
+  private static final Comparator<Runnable> QUEUE_ORDER =
+      Comparator.comparing((Runnable task) -> ((QueuedTask) task).priority())
+          .thenComparingLong(task -> ((QueuedTask) task).channelSequence())
+          .thenComparingLong(task -> ((QueuedTask) task).sequence());
+
+  private final AtomicLong submittedTasks = new AtomicLong();
+  // Free slots of a bounded queue, taken when a task is queued and given back when it starts.
+  private final Semaphore queueSlots;
+
+  /**
+   * @param threadCount number of threads running the reads
+   * @param maxQueueSize maximum number of reads waiting for a thread, 0 for no limit
+   * @param threadFactory factory creating the threads
+   */
+  GcsReadScheduler(int threadCount, int maxQueueSize, ThreadFactory threadFactory) {
+    super(
+        threadCount,
+        threadCount,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new PriorityBlockingQueue<Runnable>(/* initialCapacity= */ 11, QUEUE_ORDER),
+        threadFactory);
+    this.queueSlots = maxQueueSize > 0 ? new Semaphore(maxQueueSize) : null;
+  }
+
+  /**
+   * Returns a task that is scheduled with the given priority when submitted to a {@link
+   * GcsReadScheduler}, and runs as is on any other executor.
+   *
+   * @param priority the priority of the task
+   * @param channelSequence the number of tasks submitted by the same channel before this one
+   * @param task the task to run
+   */
+  static Runnable prioritized(Priority priority, long channelSequence, Runnable task) {
+    return new PrioritizedRunnable(priority, channelSequence, task, /* discardable= */ false);
+  }
+
+  /**
+   * Returns a task like {@link #prioritized(Priority, long, Runnable)} that is rejected with a
+   * {@link RejectedExecutionException} when the queue is full, instead of being run by the
+   * submitting thread. Used for speculative reads, e.g. hedged requests, which are submitted from
+   * threads that must not block on a read.
+   */
+  static Runnable discardable(Priority priority, long channelSequence, Runnable task) {
+    return new PrioritizedRunnable(priority, channelSequence, task, /* discardable= */ true);
+  }
+
+  /** Callable variant of {@link #prioritized(Priority, long, Runnable)}. */
+  static <T> Callable<T> prioritized(Priority priority, long channelSequence, Callable<T> task) {
+    return new PrioritizedCallable<>(priority, channelSequence, task);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    // Tasks of submit() are already wrapped by newTaskFor. Others are wrapped without a future, so
+    // that their failures still reach the uncaught exception handler.
+    QueuedTask task =
+        command instanceof QueuedTask
+            ? (QueuedTask) command
+            : new ScheduledCommand(command, command, nextSequence());
+    if (queueSlots != null && !queueSlots.tryAcquire()) {
+      if (isShutdown()) {
+        throw new RejectedExecutionException("Read scheduler has been shut down");
+      }
+      if (task.discardable()) {
+        throw new RejectedExecutionException("Read queue is full");
+      }
+      task.run();
+      return;
+    }
+    try {
+      super.execute(task);
+    } catch (RejectedExecutionException e) {
+      releaseQueueSlot();
+      throw e;
+    }
+  }
+
+  @Override
+  protected void beforeExecute(Thread thread, Runnable task) {
+    releaseQueueSlot();
+    super.beforeExecute(thread, task);
+  }
+
+  @Override
+  public boolean remove(Runnable task) {
+    boolean removed = super.remove(task);
+    if (removed) {
+      releaseQueueSlot();
+    }
+    return removed;
+  }
+
+  private void releaseQueueSlot() {
+    if (queueSlots != null) {
+      queueSlots.release();
+    }
+  }
+
+  @Override
+  protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+    return new ScheduledTask<>(Executors.callable(runnable, value), runnable, nextSequence());
+  }
+
+  @Override
+  protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+    return new ScheduledTask<>(callable, callable, nextSequence());
+  }
+
+  private long nextSequence() {
+    return submittedTasks.getAndIncrement();
+  }
+
+  private interface Prioritized {
+    Priority priority();
+
+    long channelSequence();
+
+    default boolean discardable() {
+      return false;
+    }
+  }
+
+  private static final class PrioritizedRunnable implements Runnable, Prioritized {
+    private final Priority priority;
+    private final long channelSequence;
+    private final Runnable task;
+    private final boolean discardable;
+
+    private PrioritizedRunnable(
+        Priority priority, long channelSequence, Runnable task, boolean discardable) {
+      this.priority = priority;
+      this.channelSequence = channelSequence;
+      this.task = task;
+      this.discardable = discardable;
+    }
+
+    @Override
+    public void run() {
+      task.run();
+    }
+
+    @Override
+    public Priority priority() {
+      return priority;
+    }
+
+    @Override
+    public long channelSequence() {
+      return channelSequence;
+    }
+
+    @Override
+    public boolean discardable() {
+      return discardable;
+    }
+  }
+
+  private static final class PrioritizedCallable<T> implements Callable<T>, Prioritized {
+    private final Priority priority;
+    private final long channelSequence;
+    private final Callable<T> task;
+
+    private PrioritizedCallable(Priority priority, long channelSequence, Callable<T> task) {
+      this.priority = priority;
+      this.channelSequence = channelSequence;
+      this.task = task;
+    }
+
+    @Override
+    public T call() throws Exception {
+      return task.call();
+    }
+
+    @Override
+    public Priority priority() {
+      return priority;
+    }
+
+    @Override
+    public long channelSequence() {
+      return channelSequence;
+    }
+  }
+
+  /** A task in the queue, see {@link #QUEUE_ORDER}. */
+  private interface QueuedTask extends Runnable, Prioritized {
+    long sequence();
+  }
+
+  /** A task of {@link #submit}, whose outcome is reported through its future. */
+  private static final class ScheduledTask<T> extends FutureTask<T> implements QueuedTask {
+    private final Priority priority;
+    private final long channelSequence;
+    private final long sequence;
+    private final boolean discardable;
+
+    private ScheduledTask(Callable<T> callable, Object task, long sequence) {
+      super(callable);
+      Prioritized prioritized = task instanceof Prioritized ? (Prioritized) task : null;
+      this.priority = prioritized != null ? prioritized.priority() : Priority.NORMAL;
+      this.channelSequence = prioritized != null ? prioritized.channelSequence() : 0;
+      this.sequence = sequence;
+      this.discardable = prioritized != null && prioritized.discardable();
+    }
+
+    @Override
+    public Priority priority() {
+      return priority;
+    }
+
+    @Override
+    public long channelSequence() {
+      return channelSequence;
+    }
+
+    @Override
+    public long sequence() {
+      return sequence;
+    }
+
+    @Override
+    public boolean discardable() {
+      return discardable;
+    }
+  }
+
+  /** A task of {@link #execute}, whose failures are thrown to the thread running it. */
+  private static final class ScheduledCommand implements QueuedTask {
+    private final Runnable command;
+    private final Priority priority;
+    private final long channelSequence;
+    private final long sequence;
+    private final boolean discardable;
+
+    private ScheduledCommand(Runnable command, Object task, long sequence) {
+      this.command = command;
+      Prioritized prioritized = task instanceof Prioritized ? (Prioritized) task : null;
+      this.priority = prioritized != null ? prioritized.priority() : Priority.NORMAL;
+      this.channelSequence = prioritized != null ? prioritized.channelSequence() : 0;
+      this.sequence = sequence;
+      this.discardable = prioritized != null && prioritized.discardable();
+    }
+
+    @Override
+    public void run() {
+      command.run();
+    }
+
+    @Override
+    public Priority priority() {
+      return priority;
+    }
+
+    @Override
+    public long channelSequence() {
+      return channelSequence;
+    }
+
+    @Override
+    public long sequence() {
+      return sequence;
+    }
+
+    @Override
+    public boolean discardable() {
+      return discardable;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.Blob;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Iterates over the objects of a listing split into disjoint shards of the key space, listing
+ * several shards concurrently.
+ *
+ * <p>Shards are given in lexicographic order of the key ranges they cover, so returning their
+ * objects one shard after the other keeps the listing sorted. At most {@code maxConcurrency} shards
+ * are listed or buffered ahead of the caller, which bounds the memory held by the iterator. Each
+ * page is fetched by its own task, below the priority of footer reads, so that a long shard never
+ * holds a read thread for more than one request. Failures to list a shard are thrown as {@link
+ * UncheckedIOException} by {@link #hasNext()}.
+ */
+class GcsShardedLister implements Iterator<GcsItemInfo> {
+  private final List<Callable<Page<Blob>>> shards;
+  private final List<CompletableFuture<List<GcsItemInfo>>> shardResults;
+  private final ExecutorService executorService;
+  private final String listedPath;
+  private Iterator<GcsItemInfo> currentShard = Collections.emptyIterator();
+  private int nextShardToRead;
+  private int nextShardToSubmit;
+
+  /**
+   * @param shards tasks fetching the first page of each shard, in the order their objects are
+   *     returned.
+   * @param executorService executor listing the shards.
+   * @param maxConcurrency maximum number of shards listed or buffered at the same time.
+   * @param listedPath path being listed, for error messages.
+   */
+  GcsShardedLister(
+      List<Callable<Page<Blob>>> shards,
+      ExecutorService executorService,
+      int maxConcurrency,
+      String listedPath) {
+    checkArgument(maxConcurrency > 0, "Max concurrency must be positive, got %s", maxConcurrency);
+    this.shards = ImmutableList.copyOf(shards);
+    this.shardResults = new ArrayList<>(Collections.nCopies(this.shards.size(), null));
+    this.executorService = checkNotNull(executorService, "executorService must not be null");
+    this.listedPath = listedPath;
+    while (nextShardToSubmit < Math.min(maxConcurrency, this.shards.size())) {
+      submitNextShard();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!currentShard.hasNext()) {
+      if (nextShardToRead == shards.size()) {
+        return false;
+      }
+      currentShard = awaitShard(nextShardToRead).iterator();
+      shardResults.set(nextShardToRead++, null);
+      if (nextShardToSubmit < shards.size()) {
+        submitNextShard();
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public GcsItemInfo next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more objects in " + listedPath);
+    }
+    return currentShard.next();
+  }
+
+  private void submitNextShard() {
+    int shardIndex = nextShardToSubmit++;
+    Callable<Page<Blob>> shard = shards.get(shardIndex);
+    CompletableFuture<List<GcsItemInfo>> result = new CompletableFuture<>();
+    shardResults.set(shardIndex, result);
+    ImmutableList.Builder<GcsItemInfo> itemInfos = ImmutableList.builder();
+    Runnable listFirstPage = () -> listPages(shardIndex, shard, itemInfos, result);
+    try {
+      executorService.execute(
+          GcsReadScheduler.prioritized(
+              GcsReadScheduler.Priority.NORMAL, shardIndex, listFirstPage));
+    } catch (RejectedExecutionException e) {
+      listFirstPage.run();
+    }
+  }
+
+  /**
+   * Fetches a page of a shard, then submits the fetch of the following one. When the executor
+   * rejects it, the following page is fetched on the current thread instead, which is what the
+   * executor would do without growing the stack.
+   */
+  private void listPages(
+      int shardIndex,
+      Callable<Page<Blob>> fetchPage,
+      ImmutableList.Builder<GcsItemInfo> itemInfos,
+      CompletableFuture<List<GcsItemInfo>> result) {
+    Callable<Page<Blob>> nextFetch = fetchPage;
+    while (nextFetch != null) {
+      Page<Blob> page;
+      try {
+        page = nextFetch.call();
+      } catch (Exception e) {
+        result.completeExceptionally(e);
+        return;
+      }
+      for (Blob blob : page.getValues()) {
+        itemInfos.add(GcsClientImpl.toItemInfo(blob));
+      }
+      if (!page.hasNextPage()) {
+        result.complete(itemInfos.build());
+        return;
+      }
+      Callable<Page<Blob>> fetchNextPage = page::getNextPage;
+      try {
+        executorService.execute(
+            GcsReadScheduler.discardable(
+                GcsReadScheduler.Priority.NORMAL,
+                shardIndex,
+                () -> listPages(shardIndex, fetchNextPage, itemInfos, result)));
+        return;
+      } catch (RejectedExecutionException e) {
+        nextFetch = fetchNextPage;
+      }
+    }
+  }
+
+  private List<GcsItemInfo> awaitShard(int shardIndex) {
+    try {
+      return shardResults.get(shardIndex).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedIOException(
+          new InterruptedIOException("Interrupted while listing " + listedPath));
+    } catch (ExecutionException e) {
+      throw new UncheckedIOException(
+          new IOException("Unable to list objects in " + listedPath, e.getCause()));
+    }
+  }
+}
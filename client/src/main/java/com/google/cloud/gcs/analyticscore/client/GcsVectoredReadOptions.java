@@ -26,6 +26,23 @@ public abstract class GcsVectoredReadOptions {
       "analytics-core.read.vectored.range.merge-gap.max-bytes";
   private static final String MAX_MERGE_SIZE_KEY =
       "analytics-core.read.vectored.range.merged-size.max-bytes";
+  private static final String MERGE_GAP_AUTO_TUNE_ENABLED_KEY =
+      "analytics-core.read.vectored.range.merge-gap.auto-tune.enabled";
+  private static final String MERGE_GAP_AUTO_TUNE_MIN_KEY =
+      "analytics-core.read.vectored.range.merge-gap.auto-tune.min-bytes";
+  private static final String MERGE_GAP_AUTO_TUNE_MAX_KEY =
+      "analytics-core.read.vectored.range.merge-gap.auto-tune.max-bytes";
+  private static final String SPLIT_SIZE_KEY =
+      "analytics-core.read.vectored.range.split-size-bytes";
+  private static final String RESUME_MAX_RETRIES_KEY =
+      "analytics-core.read.vectored.resume.max-retries";
+  private static final String RESUME_INITIAL_BACKOFF_KEY =
+      "analytics-core.read.vectored.resume.initial-backoff-ms";
+  private static final String HEDGE_ENABLED_KEY = "analytics-core.read.vectored.hedge.enabled";
+  private static final String HEDGE_PERCENTILE_KEY =
+      "analytics-core.read.vectored.hedge.percentile";
+  private static final String HEDGE_MIN_DELAY_KEY =
+      "analytics-core.read.vectored.hedge.min-delay-ms";
 
   // The shortest distance allowed between chunks for them to be merged
   abstract int getMaxMergeGap();
@@ -33,10 +50,47 @@ public abstract class GcsVectoredReadOptions {
   // The max allowed size of the combined chunk.
   abstract int getMaxMergeSize();
 
+  // Whether the merge gap is derived from the observed latency and bandwidth of range reads. The
+  // max merge gap above is used until enough reads have been observed.
+  abstract boolean isMergeGapAutoTuneEnabled();
+
+  // Lower bound of the auto-tuned merge gap.
+  abstract int getAutoTuneMinMergeGap();
+
+  // Upper bound of the auto-tuned merge gap.
+  abstract int getAutoTuneMaxMergeGap();
+
+  // Ranges larger than this are read by parallel requests of this size, 0 disables splitting.
+  abstract int getSplitSize();
+
+  // Number of times a failed or truncated range read is resumed where it stopped, 0 disables it.
+  abstract int getResumeMaxRetries();
+
+  // Delay before the first resume of a range read, doubled on every further resume.
+  abstract int getResumeInitialBackoffMs();
+
+  // Whether a second request is sent for combined ranges whose first bytes are late.
+  abstract boolean isHedgeEnabled();
+
+  // Percentile of the recent time to first byte after which a combined range read is hedged.
+  abstract int getHedgePercentile();
+
+  // Lower bound of the delay before a combined range read is hedged.
+  abstract int getHedgeMinDelayMs();
+
   static Builder builder() {
     return new AutoValue_GcsVectoredReadOptions.Builder()
         .setMaxMergeGap(4 * 1024) // 4 KB
-        .setMaxMergeSize(8 * 1024 * 1024); // 8 MB
+        .setMaxMergeSize(8 * 1024 * 1024) // 8 MB
+        .setMergeGapAutoTuneEnabled(false)
+        .setAutoTuneMinMergeGap(4 * 1024) // 4 KB
+        .setAutoTuneMaxMergeGap(1024 * 1024) // 1 MB
+        .setSplitSize(0) // 0 bytes = disabled
+        .setResumeMaxRetries(0) // 0 = disabled
+        .setResumeInitialBackoffMs(100)
+        .setHedgeEnabled(false)
+        .setHedgePercentile(95)
+        .setHedgeMinDelayMs(20);
   }
 
   public static GcsVectoredReadOptions createFromOptions(
@@ -50,6 +104,42 @@ public abstract class GcsVectoredReadOptions {
       optionsBuilder.setMaxMergeSize(
           Integer.parseInt(analyticsCoreOptions.get(prefix + MAX_MERGE_SIZE_KEY)));
     }
+    if (analyticsCoreOptions.containsKey(prefix + MERGE_GAP_AUTO_TUNE_ENABLED_KEY)) {
+      optionsBuilder.setMergeGapAutoTuneEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + MERGE_GAP_AUTO_TUNE_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + MERGE_GAP_AUTO_TUNE_MIN_KEY)) {
+      optionsBuilder.setAutoTuneMinMergeGap(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + MERGE_GAP_AUTO_TUNE_MIN_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + MERGE_GAP_AUTO_TUNE_MAX_KEY)) {
+      optionsBuilder.setAutoTuneMaxMergeGap(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + MERGE_GAP_AUTO_TUNE_MAX_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + SPLIT_SIZE_KEY)) {
+      optionsBuilder.setSplitSize(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + SPLIT_SIZE_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + RESUME_MAX_RETRIES_KEY)) {
+      optionsBuilder.setResumeMaxRetries(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + RESUME_MAX_RETRIES_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + RESUME_INITIAL_BACKOFF_KEY)) {
+      optionsBuilder.setResumeInitialBackoffMs(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + RESUME_INITIAL_BACKOFF_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + HEDGE_ENABLED_KEY)) {
+      optionsBuilder.setHedgeEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + HEDGE_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + HEDGE_PERCENTILE_KEY)) {
+      optionsBuilder.setHedgePercentile(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + HEDGE_PERCENTILE_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + HEDGE_MIN_DELAY_KEY)) {
+      optionsBuilder.setHedgeMinDelayMs(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + HEDGE_MIN_DELAY_KEY)));
+    }
 
     return optionsBuilder.build();
   }
@@ -62,6 +152,24 @@ public abstract class GcsVectoredReadOptions {
 
     abstract Builder setMaxMergeSize(int maxMergeSize);
 
+    abstract Builder setMergeGapAutoTuneEnabled(boolean mergeGapAutoTuneEnabled);
+
+    abstract Builder setAutoTuneMinMergeGap(int autoTuneMinMergeGap);
+
+    abstract Builder setAutoTuneMaxMergeGap(int autoTuneMaxMergeGap);
+
+    abstract Builder setSplitSize(int splitSize);
+
+    abstract Builder setResumeMaxRetries(int resumeMaxRetries);
+
+    abstract Builder setResumeInitialBackoffMs(int resumeInitialBackoffMs);
+
+    abstract Builder setHedgeEnabled(boolean hedgeEnabled);
+
+    abstract Builder setHedgePercentile(int hedgePercentile);
+
+    abstract Builder setHedgeMinDelayMs(int hedgeMinDelayMs);
+
     abstract GcsVectoredReadOptions build();
   }
 }
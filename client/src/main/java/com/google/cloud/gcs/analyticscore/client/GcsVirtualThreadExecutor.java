@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs every background read on its own virtual thread, with at most a fixed number of reads
+ * running at the same time.
+ *
+ * <p>Virtual threads are only available on Java 21 and later, so the underlying executor is looked
+ * up reflectively and {@link #create(int)} returns an empty result on older runtimes. Reads waiting
+ * for a permit park their virtual thread instead of sitting in a queue, so they start in the order
+ * the permits are released rather than by {@link GcsReadScheduler.Priority}.
+ */
+class GcsVirtualThreadExecutor extends AbstractExecutorService {
+  private static final Logger LOG = LoggerFactory.getLogger(GcsVirtualThreadExecutor.class);
+
+  private final ExecutorService delegate;
+  private final Semaphore permits;
+
+  @VisibleForTesting
+  GcsVirtualThreadExecutor(ExecutorService delegate, int maxConcurrency) {
+    this.delegate = delegate;
+    this.permits = new Semaphore(maxConcurrency, /* fair= */ true);
+  }
+
+  /**
+   * Returns an executor running each task on a new virtual thread, or an empty result if the
+   * runtime does not support virtual threads.
+   *
+   * @param maxConcurrency the maximum number of tasks running at the same time
+   */
+  static Optional<ExecutorService> create(int maxConcurrency) {
+    checkArgument(maxConcurrency > 0, "Max concurrency must be positive, got %s", maxConcurrency);
+    try {
+      ExecutorService delegate =
+          (ExecutorService)
+              Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      return Optional.of(new GcsVirtualThreadExecutor(delegate, maxConcurrency));
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      LOG.debug("Virtual threads are not available on this runtime: {}", e.toString());
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    delegate.execute(
+        () -> {
+          try {
+            permits.acquire();
+          } catch (InterruptedException e) {
+            // The executor is shutting down or the read was cancelled while waiting for a permit.
+            if (command instanceof Future) {
+              ((Future<?>) command).cancel(/* mayInterruptIfRunning= */ false);
+            }
+            Thread.currentThread().interrupt();
+            return;
+          }
+          try {
+            command.run();
+          } finally {
+            permits.release();
+          }
+        });
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return delegate.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+}
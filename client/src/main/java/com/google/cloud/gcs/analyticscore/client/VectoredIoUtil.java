@@ -17,14 +17,19 @@ package com.google.cloud.gcs.analyticscore.client;
 
 import com.google.common.collect.ImmutableList;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Comparator;
 
 class VectoredIoUtil {
+  private static final Comparator<GcsObjectRange> OFFSET_ORDER =
+      Comparator.comparingLong(GcsObjectRange::getOffset);
+
   public static ImmutableList<GcsObjectRange> sortGcsObjectRanges(
       ImmutableList<GcsObjectRange> ranges) {
-    return ranges.stream()
-        .sorted(Comparator.comparingLong(GcsObjectRange::getOffset))
-        .collect(ImmutableList.toImmutableList());
+    GcsObjectRange[] sortedRanges = ranges.toArray(new GcsObjectRange[0]);
+    // Stable and linear for the common case of ranges that are already in order.
+    Arrays.sort(sortedRanges, OFFSET_ORDER);
+    return ImmutableList.copyOf(sortedRanges);
   }
 
   public static ImmutableList<GcsObjectCombinedRange> mergeGcsObjectRanges(
@@ -35,30 +40,30 @@ class VectoredIoUtil {
 
     ImmutableList<GcsObjectRange> sortedRanges = sortGcsObjectRanges(ranges);
     ImmutableList.Builder<GcsObjectCombinedRange> combinedRanges = ImmutableList.builder();
-    GcsObjectCombinedRange currentCombinedRange = null;
-
-    for (GcsObjectRange nextRange : sortedRanges) {
-      if (currentCombinedRange == null) {
-        currentCombinedRange = createCombinedRangeFromSingleRange(nextRange);
-        continue;
-      }
+    // Bounds and members of the combined range being built, so merging a range is O(1).
+    GcsObjectRange firstRange = sortedRanges.get(0);
+    long currentStart = firstRange.getOffset();
+    long currentEnd = firstRange.getOffset() + firstRange.getLength();
+    ImmutableList.Builder<GcsObjectRange> currentRanges = ImmutableList.builder();
+    currentRanges.add(firstRange);
 
-      long currentEnd = currentCombinedRange.getOffset() + currentCombinedRange.getLength();
+    for (int i = 1; i < sortedRanges.size(); i++) {
+      GcsObjectRange nextRange = sortedRanges.get(i);
       long nextEnd = nextRange.getOffset() + nextRange.getLength();
       long gap = nextRange.getOffset() - currentEnd;
-      long potentialMergedSize = Math.max(currentEnd, nextEnd) - currentCombinedRange.getOffset();
+      long potentialMergedSize = Math.max(currentEnd, nextEnd) - currentStart;
 
       if (canMerge(gap, potentialMergedSize, maxMergeGap, maxMergeSize)) {
-        currentCombinedRange = currentCombinedRange.union(nextRange);
+        currentEnd = Math.max(currentEnd, nextEnd);
       } else {
-        combinedRanges.add(currentCombinedRange);
-        currentCombinedRange = createCombinedRangeFromSingleRange(nextRange);
+        combinedRanges.add(createCombinedRange(currentStart, currentEnd, currentRanges));
+        currentStart = nextRange.getOffset();
+        currentEnd = nextEnd;
+        currentRanges = ImmutableList.builder();
       }
+      currentRanges.add(nextRange);
     }
-
-    if (currentCombinedRange != null) {
-      combinedRanges.add(currentCombinedRange);
-    }
+    combinedRanges.add(createCombinedRange(currentStart, currentEnd, currentRanges));
 
     return combinedRanges.build();
   }
@@ -73,11 +78,13 @@ class VectoredIoUtil {
     return result;
   }
 
-  private static GcsObjectCombinedRange createCombinedRangeFromSingleRange(GcsObjectRange range) {
+  private static GcsObjectCombinedRange createCombinedRange(
+      long start, long end, ImmutableList.Builder<GcsObjectRange> underlyingRanges) {
     return GcsObjectCombinedRange.builder()
-        .setOffset(range.getOffset())
-        .setLength(range.getLength())
-        .setUnderlyingRanges(ImmutableList.of(range))
+        .setOffset(start)
+        // Fail rather than overflow, a combined range is read into a single buffer.
+        .setLength(Math.toIntExact(end - start))
+        .setUnderlyingRanges(underlyingRanges.build())
         .build();
   }
 
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.IntFunction;
 
 public interface VectoredSeekableByteChannel extends SeekableByteChannel {
@@ -31,4 +32,56 @@ public interface VectoredSeekableByteChannel extends SeekableByteChannel {
    */
   void readVectored(List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate)
       throws IOException;
+
+  /**
+   * Reads the list of provided ranges in parallel. Buffers obtained from {@code allocate} are
+   * handed to {@code release} once every range they back has been released through {@link
+   * #releaseRange(GcsObjectRange)}, or when a read fails.
+   *
+   * @param ranges Ranges to be fetched in parallel
+   * @param allocate the function to allocate ByteBuffer
+   * @param release the function to return a ByteBuffer to the allocator
+   * @throws IOException on any IO failure
+   */
+  default void readVectored(
+      List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate, Consumer<ByteBuffer> release)
+      throws IOException {
+    readVectored(ranges, allocate);
+  }
+
+  /**
+   * Reads the list of provided ranges in parallel like {@link #readVectored(List, IntFunction)},
+   * but ahead of queued reads of other data. Meant for footer and metadata reads that the other
+   * reads of a stream depend on.
+   *
+   * @param ranges Ranges to be fetched in parallel
+   * @param allocate the function to allocate ByteBuffer
+   * @throws IOException on any IO failure
+   */
+  default void readVectoredHighPriority(
+      List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate) throws IOException {
+    readVectored(ranges, allocate);
+  }
+
+  /**
+   * Releases the buffer backing a range read with {@link #readVectored(List, IntFunction,
+   * Consumer)} once the caller is done with its contents. Only the first call for a range has an
+   * effect.
+   *
+   * @param range a range previously read with a release function
+   */
+  default void releaseRange(GcsObjectRange range) {}
+
+  /**
+   * Reads the list of provided ranges in parallel. Unlike {@link #readVectored(List,
+   * IntFunction)}, ranges may be larger than a single ByteBuffer and are delivered as chunks.
+   *
+   * @param ranges Ranges to be fetched in parallel
+   * @param allocate the function to allocate the ByteBuffer of each chunk
+   * @throws IOException on any IO failure
+   */
+  default void readVectoredChunked(
+      List<GcsObjectChunkedRange> ranges, IntFunction<ByteBuffer> allocate) throws IOException {
+    readVectored(GcsObjectChunkedRange.toObjectRanges(ranges), allocate);
+  }
 }
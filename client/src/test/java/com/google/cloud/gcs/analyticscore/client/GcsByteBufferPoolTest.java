@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class GcsByteBufferPoolTest {
+
+  @Test
+  void constructor_nonPositiveSize_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new GcsByteBufferPool(0));
+  }
+
+  @Test
+  void allocate_roundsCapacityUpToSizeClass() {
+    GcsByteBufferPool pool = new GcsByteBufferPool(1024 * 1024);
+
+    ByteBuffer buffer = pool.allocate(100);
+
+    assertThat(buffer.capacity()).isEqualTo(4096);
+    assertThat(buffer.position()).isEqualTo(0);
+    assertThat(buffer.limit()).isEqualTo(100);
+    assertThat(buffer.isDirect()).isFalse();
+  }
+
+  @Test
+  void allocate_afterRelease_reusesBuffer() {
+    GcsByteBufferPool pool = new GcsByteBufferPool(1024 * 1024);
+    ByteBuffer buffer = pool.allocate(5000);
+    buffer.put(new byte[10]);
+
+    pool.release(buffer);
+    ByteBuffer reused = pool.allocate(6000);
+
+    assertThat(reused).isSameInstanceAs(buffer);
+    assertThat(reused.position()).isEqualTo(0);
+    assertThat(reused.limit()).isEqualTo(6000);
+    assertThat(pool.getPooledBytes()).isEqualTo(0);
+  }
+
+  @Test
+  void allocateDirect_heapBufferReleased_doesNotReuseHeapBuffer() {
+    GcsByteBufferPool pool = new GcsByteBufferPool(1024 * 1024);
+    ByteBuffer heapBuffer = pool.allocate(4096);
+    pool.release(heapBuffer);
+
+    ByteBuffer directBuffer = pool.allocateDirect(4096);
+
+    assertThat(directBuffer.isDirect()).isTrue();
+    assertThat(directBuffer).isNotSameInstanceAs(heapBuffer);
+    assertThat(pool.getPooledBytes()).isEqualTo(4096);
+  }
+
+  @Test
+  void release_poolFull_dropsBuffer() {
+    GcsByteBufferPool pool = new GcsByteBufferPool(8192);
+    ByteBuffer first = pool.allocate(4096);
+    ByteBuffer second = pool.allocate(4096);
+    ByteBuffer third = pool.allocate(4096);
+
+    pool.release(first);
+    pool.release(second);
+    pool.release(third);
+
+    assertThat(pool.getPooledBytes()).isEqualTo(8192);
+  }
+
+  @Test
+  void release_bufferLargerThanSizeClasses_isNotPooled() {
+    GcsByteBufferPool pool = new GcsByteBufferPool(64 * 1024 * 1024);
+    ByteBuffer buffer = pool.allocate(16 * 1024 * 1024 + 1);
+
+    pool.release(buffer);
+
+    assertThat(buffer.capacity()).isEqualTo(16 * 1024 * 1024 + 1);
+    assertThat(pool.getPooledBytes()).isEqualTo(0);
+  }
+
+  @Test
+  void release_readOnlyBuffer_isNotPooled() {
+    GcsByteBufferPool pool = new GcsByteBufferPool(1024 * 1024);
+
+    pool.release(pool.allocate(4096).asReadOnlyBuffer());
+
+    assertThat(pool.getPooledBytes()).isEqualTo(0);
+  }
+}
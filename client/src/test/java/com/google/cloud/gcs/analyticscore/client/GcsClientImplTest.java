@@ -29,9 +29,17 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -102,6 +110,141 @@ class GcsClientImplTest {
     assertThat(e).hasMessageThat().contains("Object not found:" + nonExistentItemId);
   }
 
+  @Test
+  void getGcsItemInfos_mixedItems_returnsResultsInOrderWithPerItemErrors() throws Exception {
+    GcsItemId firstItemId =
+        GcsItemId.builder().setBucketName("test-bucket-id").setObjectName("first").build();
+    GcsItemId missingItemId =
+        GcsItemId.builder().setBucketName("test-bucket-id").setObjectName("missing").build();
+    GcsItemId secondItemId =
+        GcsItemId.builder().setBucketName("test-bucket-id").setObjectName("second").build();
+    createBlobInStorage(BlobId.of("test-bucket-id", "first", 0L), "hello");
+    createBlobInStorage(BlobId.of("test-bucket-id", "second", 0L), "hello world");
+
+    List<CompletableFuture<GcsItemInfo>> itemInfos =
+        gcsClient.getGcsItemInfos(List.of(firstItemId, missingItemId, secondItemId), 2);
+
+    assertThat(itemInfos).hasSize(3);
+    assertThat(itemInfos.get(0).get(5, TimeUnit.SECONDS).getSize()).isEqualTo(5);
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> itemInfos.get(1).get(5, TimeUnit.SECONDS));
+    assertThat(e).hasCauseThat().isInstanceOf(IOException.class);
+    assertThat(itemInfos.get(2).get(5, TimeUnit.SECONDS).getSize()).isEqualTo(11);
+  }
+
+  @Test
+  void getGcsItemInfos_saturatedReadScheduler_completesEveryItem() throws Exception {
+    GcsReadScheduler scheduler = new GcsReadScheduler(1, 1, Executors.defaultThreadFactory());
+    GcsClient saturatedClient =
+        new GcsClientImpl(TEST_GCS_CLIENT_OPTIONS, () -> scheduler) {
+          @Override
+          protected Storage createStorage(Optional<Credentials> credentials) {
+            return GcsClientImplTest.this.storage;
+          }
+        };
+    List<GcsItemId> itemIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      createBlobInStorage(BlobId.of("test-bucket-id", "object-" + i, 0L), "hello");
+      itemIds.add(
+          GcsItemId.builder().setBucketName("test-bucket-id").setObjectName("object-" + i).build());
+    }
+
+    try {
+      List<CompletableFuture<GcsItemInfo>> itemInfos =
+          saturatedClient.getGcsItemInfos(itemIds, 3);
+
+      for (CompletableFuture<GcsItemInfo> itemInfo : itemInfos) {
+        assertThat(itemInfo.get(5, TimeUnit.SECONDS).getSize()).isEqualTo(5);
+      }
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+  @Test
+  void getGcsItemInfos_readQueueFull_returnsWithoutLookingUpOnCallerThread() throws Exception {
+    GcsReadScheduler scheduler = new GcsReadScheduler(1, 1, Executors.defaultThreadFactory());
+    GcsClient saturatedClient =
+        new GcsClientImpl(TEST_GCS_CLIENT_OPTIONS, () -> scheduler) {
+          @Override
+          protected Storage createStorage(Optional<Credentials> credentials) {
+            return GcsClientImplTest.this.storage;
+          }
+        };
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket-id").setObjectName("object").build();
+    createBlobInStorage(BlobId.of("test-bucket-id", "object", 0L), "hello");
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    var unusedRunning =
+        scheduler.submit(
+            () -> {
+              started.countDown();
+              release.await();
+              return null;
+            });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    var unusedQueued = scheduler.submit(() -> {});
+
+    try {
+      List<CompletableFuture<GcsItemInfo>> itemInfos =
+          saturatedClient.getGcsItemInfos(List.of(itemId), 1);
+
+      assertThat(itemInfos.get(0).isDone()).isFalse();
+      release.countDown();
+      assertThat(itemInfos.get(0).get(5, TimeUnit.SECONDS).getSize()).isEqualTo(5);
+    } finally {
+      release.countDown();
+      scheduler.shutdownNow();
+    }
+  }
+
+  @Test
+  void listGcsItemInfos_withPrefix_returnsMatchingObjectsWithSizesAndGenerations()
+      throws IOException {
+    createBlobInStorage(BlobId.of("test-bucket-id", "dir/a", 0L), "hello");
+    createBlobInStorage(BlobId.of("test-bucket-id", "dir/b", 0L), "hello world");
+    createBlobInStorage(BlobId.of("test-bucket-id", "other/c", 0L), "hello");
+    GcsItemId prefix =
+        GcsItemId.builder().setBucketName("test-bucket-id").setObjectName("dir/").build();
+
+    Map<String, GcsItemInfo> itemInfos = new HashMap<>();
+    // The local storage fake neither pages prefixed listings nor orders them like GCS does, so
+    // paging and ordering are covered by GcsObjectListerTest with mocked pages.
+    gcsClient
+        .listGcsItemInfos(prefix, 100)
+        .forEachRemaining(
+            itemInfo -> itemInfos.put(itemInfo.getItemId().getObjectName().get(), itemInfo));
+
+    assertThat(itemInfos.keySet()).containsExactly("dir/a", "dir/b");
+    assertThat(itemInfos.get("dir/a").getSize()).isEqualTo(5);
+    assertThat(itemInfos.get("dir/a").getContentGeneration()).hasValue(0L);
+    assertThat(itemInfos.get("dir/b").getSize()).isEqualTo(11);
+  }
+
+  @Test
+  void listGcsDirectories_withPrefix_returnsDirectoriesDirectlyUnderPrefix() throws IOException {
+    createBlobInStorage(BlobId.of("test-bucket-id", "table/_SUCCESS", 0L), "");
+    createBlobInStorage(BlobId.of("test-bucket-id", "table/dt=1/a", 0L), "hello");
+    createBlobInStorage(BlobId.of("test-bucket-id", "table/dt=1/b", 0L), "hello");
+    createBlobInStorage(BlobId.of("test-bucket-id", "table/dt=2/nested/c", 0L), "hello");
+    GcsItemId prefix =
+        GcsItemId.builder().setBucketName("test-bucket-id").setObjectName("table/").build();
+
+    List<String> directories = gcsClient.listGcsDirectories(prefix);
+
+    assertThat(directories).containsExactly("table/dt=1/", "table/dt=2/").inOrder();
+  }
+
+  @Test
+  void getGcsItemInfos_nonPositiveConcurrency_throwsIllegalArgumentException() {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket-id").setObjectName("test-object-id").build();
+
+    assertThrows(
+        IllegalArgumentException.class, () -> gcsClient.getGcsItemInfos(List.of(itemId), 0));
+  }
+
   @Test
   void openReadChannel_gcsObjectExists_returnsChannelWithCorrectSizeAndContent()
       throws IOException {
@@ -219,6 +362,33 @@ class GcsClientImplTest {
     assertThat(client.storage.getOptions().getCredentials()).isEqualTo(NoCredentials.getInstance());
   }
 
+  @Test
+  void createStorage_grpcClientType_usesGrpcTransportWithProvidedCredentials() {
+    GcsClientImpl client =
+        new GcsClientImpl(
+            NoCredentials.getInstance(),
+            TEST_GCS_CLIENT_OPTIONS,
+            executorServiceSupplier,
+            Optional.empty(),
+            GcsFileSystemOptions.ClientType.GRPC_CLIENT);
+
+    assertThat(client.storage.getOptions()).isInstanceOf(GrpcStorageOptions.class);
+    assertThat(client.storage.getOptions().getCredentials()).isEqualTo(NoCredentials.getInstance());
+  }
+
+  @Test
+  void createStorage_httpClientType_usesHttpTransport() {
+    GcsClientImpl client =
+        new GcsClientImpl(
+            NoCredentials.getInstance(),
+            TEST_GCS_CLIENT_OPTIONS,
+            executorServiceSupplier,
+            Optional.empty(),
+            GcsFileSystemOptions.ClientType.HTTP_CLIENT);
+
+    assertThat(client.storage.getOptions()).isInstanceOf(HttpStorageOptions.class);
+  }
+
   private void createBlobInStorage(BlobId blobId, String blobContent) {
     BlobInfo blobInfo = BlobInfo.newBuilder(blobId).build();
     storage.create(blobInfo, blobContent.getBytes(StandardCharsets.UTF_8));
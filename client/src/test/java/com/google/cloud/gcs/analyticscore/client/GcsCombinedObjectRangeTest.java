@@ -17,6 +17,7 @@
 package com.google.cloud.gcs.analyticscore.client;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.common.collect.ImmutableList;
 import java.util.concurrent.CompletableFuture;
@@ -78,6 +79,20 @@ class GcsCombinedObjectRangeTest {
     assertThat(result.getLength()).isEqualTo(200); // (100 + 200) - 100
   }
 
+  @Test
+  void union_resultLargerThanIntegerMax_throwsArithmeticException() {
+    GcsObjectRange range1 = createRange(/* offset= */ 0, /* length= */ 100);
+    GcsObjectRange range2 = createRange(/* offset= */ Integer.MAX_VALUE, /* length= */ 100);
+    GcsObjectCombinedRange combinedRange =
+        GcsObjectCombinedRange.builder()
+            .setUnderlyingRanges(ImmutableList.of(range1))
+            .setOffset(range1.getOffset())
+            .setLength(range1.getLength())
+            .build();
+
+    assertThrows(ArithmeticException.class, () -> combinedRange.union(range2));
+  }
+
   private GcsObjectRange createRange(long offset, int length) {
     return GcsObjectRange.builder()
         .setOffset(offset)
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.cloud.storage.StorageException;
+import com.google.common.base.Ticker;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class GcsConcurrencyLimiterTest {
+
+  private static final String BUCKET = "test-bucket";
+  private static final long ONE_MB = 1024 * 1024;
+
+  private final FakeTicker ticker = new FakeTicker();
+
+  @Test
+  void constructor_nonPositiveMaxLimit_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new GcsConcurrencyLimiter(0));
+  }
+
+  @Test
+  void getLimit_unknownBucket_returnsInitialLimit() {
+    assertThat(new GcsConcurrencyLimiter(256).getLimit(BUCKET))
+        .isEqualTo(GcsConcurrencyLimiter.INITIAL_LIMIT);
+    assertThat(new GcsConcurrencyLimiter(2).getLimit(BUCKET)).isEqualTo(2);
+  }
+
+  @Test
+  void acquire_limitReached_waitsForRelease() throws Exception {
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(1, ticker);
+    GcsConcurrencyLimiter.Permit permit = limiter.acquire(BUCKET);
+
+    CompletableFuture<GcsConcurrencyLimiter.Permit> waiting =
+        CompletableFuture.supplyAsync(() -> acquireUnchecked(limiter));
+
+    assertThrows(TimeoutException.class, () -> waiting.get(100, TimeUnit.MILLISECONDS));
+    permit.onSuccess(ONE_MB);
+    assertThat(waiting.get(5, TimeUnit.SECONDS)).isNotNull();
+    assertThat(limiter.getInFlight(BUCKET)).isEqualTo(1);
+  }
+
+  @Test
+  void acquire_interrupted_throwsInterruptedIOException() throws Exception {
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(1, ticker);
+    limiter.acquire(BUCKET);
+
+    Thread.currentThread().interrupt();
+
+    assertThrows(InterruptedIOException.class, () -> limiter.acquire(BUCKET));
+    assertThat(Thread.interrupted()).isTrue();
+  }
+
+  @Test
+  void onSuccess_limitInUse_increasesLimitByOne() throws Exception {
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(256, ticker);
+    List<GcsConcurrencyLimiter.Permit> permits = acquire(limiter, 4);
+
+    ticker.advance(10, TimeUnit.MILLISECONDS);
+    permits.get(0).onSuccess(ONE_MB);
+
+    assertThat(limiter.getLimit(BUCKET)).isEqualTo(GcsConcurrencyLimiter.INITIAL_LIMIT + 1);
+  }
+
+  @Test
+  void onSuccess_limitMostlyUnused_keepsLimit() throws Exception {
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(256, ticker);
+
+    ticker.advance(10, TimeUnit.MILLISECONDS);
+    limiter.acquire(BUCKET).onSuccess(ONE_MB);
+
+    assertThat(limiter.getLimit(BUCKET)).isEqualTo(GcsConcurrencyLimiter.INITIAL_LIMIT);
+  }
+
+  @Test
+  void onSuccess_atMaxLimit_doesNotExceedMaxLimit() throws Exception {
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(2, ticker);
+
+    for (int i = 0; i < 10; i++) {
+      acquire(limiter, 2).forEach(permit -> permit.onSuccess(ONE_MB));
+    }
+
+    assertThat(limiter.getLimit(BUCKET)).isEqualTo(2);
+  }
+
+  @Test
+  void onSuccess_latencyInflated_decreasesLimit() throws Exception {
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(256, ticker);
+    GcsConcurrencyLimiter.Permit fast = limiter.acquire(BUCKET);
+    ticker.advance(10, TimeUnit.MILLISECONDS);
+    fast.onSuccess(ONE_MB);
+    int limitBefore = limiter.getLimit(BUCKET);
+
+    GcsConcurrencyLimiter.Permit slow = limiter.acquire(BUCKET);
+    ticker.advance(100, TimeUnit.MILLISECONDS);
+    slow.onSuccess(ONE_MB);
+
+    assertThat(limiter.getLimit(BUCKET)).isLessThan(limitBefore);
+  }
+
+  @Test
+  void onSuccess_largerReadWithProportionalLatency_keepsLimit() throws Exception {
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(256, ticker);
+    GcsConcurrencyLimiter.Permit small = limiter.acquire(BUCKET);
+    ticker.advance(10, TimeUnit.MILLISECONDS);
+    small.onSuccess(ONE_MB);
+
+    GcsConcurrencyLimiter.Permit large = limiter.acquire(BUCKET);
+    ticker.advance(100, TimeUnit.MILLISECONDS);
+    large.onSuccess(10 * ONE_MB);
+
+    assertThat(limiter.getLimit(BUCKET)).isEqualTo(GcsConcurrencyLimiter.INITIAL_LIMIT);
+  }
+
+  @Test
+  void onFailure_throttled_halvesLimit() throws Exception {
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(256, ticker);
+
+    limiter
+        .acquire(BUCKET)
+        .onFailure(new IOException(new StorageException(429, "Too many requests")));
+
+    assertThat(limiter.getLimit(BUCKET)).isEqualTo(GcsConcurrencyLimiter.INITIAL_LIMIT / 2);
+    assertThat(limiter.getInFlight(BUCKET)).isEqualTo(0);
+  }
+
+  @Test
+  void onFailure_notThrottled_keepsLimit() throws Exception {
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(256, ticker);
+
+    limiter.acquire(BUCKET).onFailure(new StorageException(404, "Not found"));
+
+    assertThat(limiter.getLimit(BUCKET)).isEqualTo(GcsConcurrencyLimiter.INITIAL_LIMIT);
+    assertThat(limiter.getInFlight(BUCKET)).isEqualTo(0);
+  }
+
+  @Test
+  void onFailure_afterSuccess_releasesPermitOnce() throws Exception {
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(256, ticker);
+    limiter.acquire(BUCKET);
+    GcsConcurrencyLimiter.Permit permit = limiter.acquire(BUCKET);
+
+    permit.onSuccess(ONE_MB);
+    permit.onFailure(new StorageException(503, "Unavailable"));
+
+    assertThat(limiter.getInFlight(BUCKET)).isEqualTo(1);
+    assertThat(limiter.getLimit(BUCKET)).isEqualTo(GcsConcurrencyLimiter.INITIAL_LIMIT);
+  }
+
+  @Test
+  void getLimits_tracksBucketsIndependently() throws Exception {
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(256, ticker);
+    limiter.acquire("other-bucket").onSuccess(ONE_MB);
+
+    limiter.acquire(BUCKET).onFailure(new StorageException(503, "Unavailable"));
+
+    assertThat(limiter.getLimits())
+        .containsExactly(
+            BUCKET,
+            GcsConcurrencyLimiter.INITIAL_LIMIT / 2,
+            "other-bucket",
+            GcsConcurrencyLimiter.INITIAL_LIMIT);
+  }
+
+  private static List<GcsConcurrencyLimiter.Permit> acquire(
+      GcsConcurrencyLimiter limiter, int count) throws InterruptedIOException {
+    List<GcsConcurrencyLimiter.Permit> permits = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      permits.add(limiter.acquire(BUCKET));
+    }
+    return permits;
+  }
+
+  private static GcsConcurrencyLimiter.Permit acquireUnchecked(GcsConcurrencyLimiter limiter) {
+    try {
+      return limiter.acquire(BUCKET);
+    } catch (InterruptedIOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class FakeTicker extends Ticker {
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Override
+    public long read() {
+      return nanos.get();
+    }
+
+    void advance(long duration, TimeUnit unit) {
+      nanos.addAndGet(unit.toNanos(duration));
+    }
+  }
+}
@@ -20,11 +20,16 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.google.cloud.NoCredentials;
+import com.google.cloud.storage.GrpcStorageOptions;
+import com.google.cloud.storage.HttpStorageOptions;
 import com.google.common.base.Supplier;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -82,6 +87,33 @@ class GcsFileSystemImplTest {
     assertThat(gcsClient.storage.getOptions().getProjectId()).isEqualTo("test-project-default");
   }
 
+  @Test
+  void constructor_defaultClientType_createsClientWithHttpTransport() {
+    GcsFileSystemImpl gcsFileSystem =
+        new GcsFileSystemImpl(NoCredentials.getInstance(), TEST_GCS_FILESYSTEM_OPTIONS);
+    GcsClientImpl gcsClientImpl = (GcsClientImpl) gcsFileSystem.getGcsClient();
+
+    assertThat(gcsClientImpl.storage.getOptions()).isInstanceOf(HttpStorageOptions.class);
+  }
+
+  @Test
+  void constructor_grpcClientType_createsClientWithGrpcTransport() {
+    GcsFileSystemOptions fileSystemOptions =
+        GcsFileSystemOptions.builder()
+            .setGcsClientOptions(TEST_GCS_CLIENT_OPTIONS)
+            .setClientType(GcsFileSystemOptions.ClientType.GRPC_CLIENT)
+            .build();
+
+    GcsFileSystemImpl gcsFileSystem =
+        new GcsFileSystemImpl(NoCredentials.getInstance(), fileSystemOptions);
+    GcsClientImpl gcsClientImpl = (GcsClientImpl) gcsFileSystem.getGcsClient();
+
+    assertThat(gcsClientImpl.storage.getOptions()).isInstanceOf(GrpcStorageOptions.class);
+    assertThat(gcsClientImpl.storage.getOptions().getCredentials())
+        .isEqualTo(NoCredentials.getInstance());
+    gcsFileSystem.close();
+  }
+
   @Test
   void constructor_shouldInitializeAndPassMemorizedExecutorServiceToGcsClient() {
     final AtomicReference<Supplier<ExecutorService>> capturedSupplier = new AtomicReference<>();
@@ -285,6 +317,28 @@ class GcsFileSystemImplTest {
         .isEqualTo(16);
   }
 
+  @Test
+  void initializeExecutionServiceSupplier_virtualThreadsEnabled_usesVirtualThreadsWhenSupported() {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.builder()
+            .setGcsClientOptions(TEST_GCS_CLIENT_OPTIONS)
+            .setVirtualThreadsEnabled(true)
+            .build();
+    GcsFileSystemImpl fileSystemImpl = new GcsFileSystemImpl(mockClient, options);
+
+    ExecutorService executorService = fileSystemImpl.initializeExecutionServiceSupplier().get();
+
+    try {
+      assertThat(executorService)
+          .isInstanceOf(
+              Runtime.version().feature() >= 21
+                  ? GcsVirtualThreadExecutor.class
+                  : GcsReadScheduler.class);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
   @Test
   void close_whenTerminationSucceeds_shutsDownGracefully() throws InterruptedException {
     ExecutorService mockExecutorService = mock(ExecutorService.class);
@@ -360,4 +414,251 @@ class GcsFileSystemImplTest {
   void getGcsClient_shouldReturnConfiguredClient() {
     assertEquals(mockClient, gcsFileSystem.getGcsClient());
   }
+
+  @Test
+  void getFooterCache_defaultOptions_returnsEmpty() {
+    assertThat(gcsFileSystem.getFooterCache().isPresent()).isFalse();
+  }
+
+  @Test
+  void getFooterCache_withFooterCacheSize_returnsSharedCache() {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.builder()
+            .setGcsClientOptions(TEST_GCS_CLIENT_OPTIONS)
+            .setFooterCacheMaxSize(1024 * 1024)
+            .build();
+    GcsFileSystem fileSystem = new GcsFileSystemImpl(mockClient, options);
+
+    assertThat(fileSystem.getFooterCache().isPresent()).isTrue();
+    assertThat(fileSystem.getFooterCache().get())
+        .isSameInstanceAs(fileSystem.getFooterCache().get());
+  }
+
+  @Test
+  void getMetadataCache_defaultOptions_returnsEmpty() {
+    assertThat(gcsFileSystem.getMetadataCache().isPresent()).isFalse();
+  }
+
+  @Test
+  void getFileInfo_metadataCacheEnabled_fetchesMetadataOnce() throws IOException {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.builder()
+            .setGcsClientOptions(TEST_GCS_CLIENT_OPTIONS)
+            .setMetadataCacheMaxEntries(100)
+            .build();
+    GcsFileSystem fileSystem = new GcsFileSystemImpl(mockClient, options);
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName(TEST_BUCKET).setObjectName(TEST_OBJECT).build();
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder().setItemId(itemId).setSize(10).setContentGeneration(1L).build();
+    when(mockClient.getGcsItemInfo(itemId)).thenReturn(itemInfo);
+
+    GcsFileInfo firstFileInfo = fileSystem.getFileInfo(itemId);
+    GcsFileInfo secondFileInfo =
+        fileSystem.getFileInfo(URI.create("gs://" + TEST_BUCKET + "/" + TEST_OBJECT));
+
+    assertThat(firstFileInfo.getItemInfo()).isEqualTo(itemInfo);
+    assertThat(secondFileInfo.getItemInfo()).isEqualTo(itemInfo);
+    verify(mockClient, times(1)).getGcsItemInfo(itemId);
+  }
+
+  @Test
+  void getFileInfo_metadataCacheInvalidated_fetchesMetadataAgain() throws IOException {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.builder()
+            .setGcsClientOptions(TEST_GCS_CLIENT_OPTIONS)
+            .setMetadataCacheMaxEntries(100)
+            .build();
+    GcsFileSystem fileSystem = new GcsFileSystemImpl(mockClient, options);
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName(TEST_BUCKET).setObjectName(TEST_OBJECT).build();
+    when(mockClient.getGcsItemInfo(itemId))
+        .thenReturn(GcsItemInfo.builder().setItemId(itemId).setSize(10).build());
+    fileSystem.getFileInfo(itemId);
+
+    fileSystem.getMetadataCache().get().invalidate(itemId);
+    fileSystem.getFileInfo(itemId);
+
+    verify(mockClient, times(2)).getGcsItemInfo(itemId);
+  }
+
+  @Test
+  void getFileInfos_metadataCacheEnabled_fetchesOnlyUncachedItemsInOrder() throws Exception {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.builder()
+            .setGcsClientOptions(TEST_GCS_CLIENT_OPTIONS)
+            .setMetadataCacheMaxEntries(100)
+            .setMetadataBatchMaxConcurrency(4)
+            .build();
+    GcsFileSystem fileSystem = new GcsFileSystemImpl(mockClient, options);
+    GcsItemId cachedItemId =
+        GcsItemId.builder().setBucketName(TEST_BUCKET).setObjectName("cached").build();
+    GcsItemId uncachedItemId =
+        GcsItemId.builder().setBucketName(TEST_BUCKET).setObjectName("uncached").build();
+    GcsItemId missingItemId =
+        GcsItemId.builder().setBucketName(TEST_BUCKET).setObjectName("missing").build();
+    GcsItemInfo cachedItemInfo =
+        GcsItemInfo.builder().setItemId(cachedItemId).setSize(10).build();
+    GcsItemInfo uncachedItemInfo =
+        GcsItemInfo.builder().setItemId(uncachedItemId).setSize(20).build();
+    fileSystem.getMetadataCache().get().put(cachedItemId, cachedItemInfo);
+    IOException notFound = new IOException("Object not found");
+    when(mockClient.getGcsItemInfos(List.of(uncachedItemId, missingItemId), 4))
+        .thenReturn(
+            List.of(
+                CompletableFuture.completedFuture(uncachedItemInfo),
+                CompletableFuture.failedFuture(notFound)));
+
+    List<CompletableFuture<GcsFileInfo>> fileInfos =
+        fileSystem.getFileInfos(List.of(cachedItemId, uncachedItemId, missingItemId));
+
+    assertThat(fileInfos.get(0).get().getItemInfo()).isEqualTo(cachedItemInfo);
+    assertThat(fileInfos.get(0).get().getUri())
+        .isEqualTo(URI.create("gs://" + TEST_BUCKET + "/cached"));
+    assertThat(fileInfos.get(1).get().getItemInfo()).isEqualTo(uncachedItemInfo);
+    assertThat(fileInfos.get(2).isCompletedExceptionally()).isTrue();
+    assertThat(fileSystem.getMetadataCache().get().get(uncachedItemId)).hasValue(uncachedItemInfo);
+  }
+
+  @Test
+  void getFileInfos_allItemsCached_doesNotCallClient() throws Exception {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.builder()
+            .setGcsClientOptions(TEST_GCS_CLIENT_OPTIONS)
+            .setMetadataCacheMaxEntries(100)
+            .build();
+    GcsFileSystem fileSystem = new GcsFileSystemImpl(mockClient, options);
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName(TEST_BUCKET).setObjectName(TEST_OBJECT).build();
+    GcsItemInfo itemInfo = GcsItemInfo.builder().setItemId(itemId).setSize(10).build();
+    fileSystem.getMetadataCache().get().put(itemId, itemInfo);
+
+    List<CompletableFuture<GcsFileInfo>> fileInfos = fileSystem.getFileInfos(List.of(itemId));
+
+    assertThat(fileInfos.get(0).get().getItemInfo()).isEqualTo(itemInfo);
+    verifyNoInteractions(mockClient);
+  }
+
+  @Test
+  void list_withPrefix_returnsFileInfosAndCachesTheirMetadata() throws IOException {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.builder()
+            .setGcsClientOptions(TEST_GCS_CLIENT_OPTIONS)
+            .setMetadataCacheMaxEntries(100)
+            .setListPageSize(50)
+            .build();
+    GcsFileSystem fileSystem = new GcsFileSystemImpl(mockClient, options);
+    GcsItemId prefix =
+        GcsItemId.builder().setBucketName(TEST_BUCKET).setObjectName("test-dir/").build();
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName(TEST_BUCKET).setObjectName(TEST_OBJECT).build();
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(
+                GcsItemId.builder()
+                    .setBucketName(TEST_BUCKET)
+                    .setObjectName(TEST_OBJECT)
+                    .setContentGeneration(7L)
+                    .build())
+            .setSize(10)
+            .setContentGeneration(7L)
+            .build();
+    when(mockClient.listGcsItemInfos(prefix, 50)).thenReturn(List.of(itemInfo).iterator());
+
+    List<GcsFileInfo> fileInfos = new ArrayList<>();
+    fileSystem
+        .list(URI.create("gs://" + TEST_BUCKET + "/test-dir/"))
+        .forEachRemaining(fileInfos::add);
+
+    assertThat(fileInfos).hasSize(1);
+    assertThat(fileInfos.get(0).getItemInfo()).isEqualTo(itemInfo);
+    assertThat(fileInfos.get(0).getUri())
+        .isEqualTo(URI.create("gs://" + TEST_BUCKET + "/" + TEST_OBJECT));
+    assertThat(fileSystem.getMetadataCache().get().get(itemId)).hasValue(itemInfo);
+  }
+
+  @Test
+  void listParallel_withoutSplitPoints_splitsAtDirectoriesUnderPrefix() throws IOException {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.builder()
+            .setGcsClientOptions(TEST_GCS_CLIENT_OPTIONS)
+            .setListPageSize(50)
+            .setListParallelMaxConcurrency(4)
+            .build();
+    GcsFileSystem fileSystem = new GcsFileSystemImpl(mockClient, options);
+    GcsItemId prefix =
+        GcsItemId.builder().setBucketName(TEST_BUCKET).setObjectName("test-dir/").build();
+    List<String> directories = List.of("test-dir/dt=1/", "test-dir/dt=2/");
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(
+                GcsItemId.builder().setBucketName(TEST_BUCKET).setObjectName(TEST_OBJECT).build())
+            .setSize(10)
+            .build();
+    when(mockClient.listGcsDirectories(prefix)).thenReturn(directories);
+    when(mockClient.listGcsItemInfos(prefix, directories, 4, 50))
+        .thenReturn(List.of(itemInfo).iterator());
+
+    List<GcsFileInfo> fileInfos = new ArrayList<>();
+    fileSystem
+        .listParallel(URI.create("gs://" + TEST_BUCKET + "/test-dir/"))
+        .forEachRemaining(fileInfos::add);
+
+    assertThat(fileInfos).hasSize(1);
+    assertThat(fileInfos.get(0).getItemInfo()).isEqualTo(itemInfo);
+  }
+
+  @Test
+  void listParallel_withSplitPoints_passesSplitPointsToClient() throws IOException {
+    GcsItemId prefix =
+        GcsItemId.builder().setBucketName(TEST_BUCKET).setObjectName("test-dir/").build();
+    List<String> splitPoints = List.of("test-dir/m");
+    when(mockClient.listGcsItemInfos(prefix, splitPoints, 8, 1000))
+        .thenReturn(Collections.emptyIterator());
+
+    assertThat(
+            gcsFileSystem
+                .listParallel(URI.create("gs://" + TEST_BUCKET + "/test-dir/"), splitPoints)
+                .hasNext())
+        .isFalse();
+    verify(mockClient, never()).listGcsDirectories(any());
+  }
+
+  @Test
+  void getBufferPool_defaultOptions_returnsEmpty() {
+    assertThat(gcsFileSystem.getBufferPool().isPresent()).isFalse();
+  }
+
+  @Test
+  void getBufferPool_withBufferPoolSize_returnsSharedPool() {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.builder()
+            .setGcsClientOptions(TEST_GCS_CLIENT_OPTIONS)
+            .setBufferPoolMaxSize(8 * 1024 * 1024)
+            .build();
+    GcsFileSystem fileSystem = new GcsFileSystemImpl(mockClient, options);
+
+    assertThat(fileSystem.getBufferPool().isPresent()).isTrue();
+    assertThat(fileSystem.getBufferPool().get())
+        .isSameInstanceAs(fileSystem.getBufferPool().get());
+  }
+
+  @Test
+  void getConcurrencyLimiter_defaultOptions_returnsEmpty() {
+    assertThat(gcsFileSystem.getConcurrencyLimiter().isPresent()).isFalse();
+  }
+
+  @Test
+  void getConcurrencyLimiter_adaptiveConcurrencyEnabled_returnsLimiter() {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.builder()
+            .setGcsClientOptions(TEST_GCS_CLIENT_OPTIONS)
+            .setAdaptiveConcurrencyEnabled(true)
+            .setAdaptiveConcurrencyMaxLimit(4)
+            .build();
+    GcsFileSystem fileSystem = new GcsFileSystemImpl(mockClient, options);
+
+    assertThat(fileSystem.getConcurrencyLimiter().isPresent()).isTrue();
+    assertThat(fileSystem.getConcurrencyLimiter().get().getLimit(TEST_BUCKET)).isEqualTo(4);
+  }
 }
@@ -26,16 +26,41 @@ class GcsFileSystemOptionsTest {
   @Test
   void createFromOptions_withValidProperties_shouldCreateCorrectOptions() {
     ImmutableMap<String, String> properties =
-        ImmutableMap.of(
-            "fs.gs.project-id", "test-project",
-            "fs.gs.client.type", "GRPC_CLIENT",
-            "fs.gs.analytics-core.read.thread.count", "32");
+        ImmutableMap.<String, String>builder()
+            .put("fs.gs.project-id", "test-project")
+            .put("fs.gs.client.type", "GRPC_CLIENT")
+            .put("fs.gs.analytics-core.read.thread.count", "32")
+            .put("fs.gs.analytics-core.read.thread.queue.max-size", "128")
+            .put("fs.gs.analytics-core.read.virtual-threads.enabled", "true")
+            .put("fs.gs.analytics-core.read.virtual-threads.max-concurrency", "512")
+            .put("fs.gs.analytics-core.read.adaptive-concurrency.enabled", "true")
+            .put("fs.gs.analytics-core.read.adaptive-concurrency.max-limit", "64")
+            .put("fs.gs.analytics-core.footer.cache.max-size-bytes", "67108864")
+            .put("fs.gs.analytics-core.buffer-pool.max-size-bytes", "33554432")
+            .put("fs.gs.analytics-core.metadata.cache.max-entries", "10000")
+            .put("fs.gs.analytics-core.metadata.cache.ttl-ms", "5000")
+            .put("fs.gs.analytics-core.metadata.batch.max-concurrency", "8")
+            .put("fs.gs.analytics-core.list.page-size", "500")
+            .put("fs.gs.analytics-core.list.parallel.max-concurrency", "16")
+            .build();
 
     GcsFileSystemOptions options = GcsFileSystemOptions.createFromOptions(properties, "fs.gs.");
 
     assertThat(options.getGcsClientOptions().getProjectId().get()).isEqualTo("test-project");
     assertThat(options.getClientType()).isEqualTo(GcsFileSystemOptions.ClientType.GRPC_CLIENT);
     assertThat(options.getReadThreadCount()).isEqualTo(32);
+    assertThat(options.getReadQueueMaxSize()).isEqualTo(128);
+    assertThat(options.isVirtualThreadsEnabled()).isTrue();
+    assertThat(options.getVirtualThreadsMaxConcurrency()).isEqualTo(512);
+    assertThat(options.isAdaptiveConcurrencyEnabled()).isTrue();
+    assertThat(options.getAdaptiveConcurrencyMaxLimit()).isEqualTo(64);
+    assertThat(options.getFooterCacheMaxSize()).isEqualTo(67108864L);
+    assertThat(options.getBufferPoolMaxSize()).isEqualTo(33554432L);
+    assertThat(options.getMetadataCacheMaxEntries()).isEqualTo(10000L);
+    assertThat(options.getMetadataCacheTtlMs()).isEqualTo(5000L);
+    assertThat(options.getMetadataBatchMaxConcurrency()).isEqualTo(8);
+    assertThat(options.getListPageSize()).isEqualTo(500);
+    assertThat(options.getListParallelMaxConcurrency()).isEqualTo(16);
   }
 
   @Test
@@ -47,5 +72,17 @@ class GcsFileSystemOptionsTest {
     assertThat(options.getGcsClientOptions().getProjectId().isEmpty()).isTrue();
     assertThat(options.getClientType()).isEqualTo(GcsFileSystemOptions.ClientType.HTTP_CLIENT);
     assertThat(options.getReadThreadCount()).isEqualTo(16);
+    assertThat(options.getReadQueueMaxSize()).isEqualTo(0);
+    assertThat(options.isVirtualThreadsEnabled()).isFalse();
+    assertThat(options.getVirtualThreadsMaxConcurrency()).isEqualTo(256);
+    assertThat(options.isAdaptiveConcurrencyEnabled()).isFalse();
+    assertThat(options.getAdaptiveConcurrencyMaxLimit()).isEqualTo(256);
+    assertThat(options.getFooterCacheMaxSize()).isEqualTo(0L);
+    assertThat(options.getBufferPoolMaxSize()).isEqualTo(0L);
+    assertThat(options.getMetadataCacheMaxEntries()).isEqualTo(0L);
+    assertThat(options.getMetadataCacheTtlMs()).isEqualTo(60000L);
+    assertThat(options.getMetadataBatchMaxConcurrency()).isEqualTo(32);
+    assertThat(options.getListPageSize()).isEqualTo(1000);
+    assertThat(options.getListParallelMaxConcurrency()).isEqualTo(8);
   }
 }
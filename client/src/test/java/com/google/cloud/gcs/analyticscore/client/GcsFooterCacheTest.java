@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class GcsFooterCacheTest {
+
+  private static final GcsItemId ITEM_ID =
+      GcsItemId.builder()
+          .setBucketName("test-bucket")
+          .setObjectName("test-object")
+          .setContentGeneration(1L)
+          .build();
+
+  @Test
+  void constructor_nonPositiveSize_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new GcsFooterCache(0));
+  }
+
+  @Test
+  void get_emptyCache_returnsEmpty() {
+    GcsFooterCache cache = new GcsFooterCache(1024);
+
+    assertThat(cache.get(ITEM_ID, 10)).isEmpty();
+  }
+
+  @Test
+  void get_afterPut_returnsRequestedTail() {
+    GcsFooterCache cache = new GcsFooterCache(1024);
+    cache.put(ITEM_ID, ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5}));
+
+    Optional<ByteBuffer> tail = cache.get(ITEM_ID, 3);
+
+    assertThat(tail).isPresent();
+    assertThat(tail.get().isReadOnly()).isTrue();
+    assertThat(tail.get()).isEqualTo(ByteBuffer.wrap(new byte[] {3, 4, 5}));
+  }
+
+  @Test
+  void get_lengthLargerThanCachedTail_returnsEmpty() {
+    GcsFooterCache cache = new GcsFooterCache(1024);
+    cache.put(ITEM_ID, ByteBuffer.wrap(new byte[] {1, 2, 3}));
+
+    assertThat(cache.get(ITEM_ID, 4)).isEmpty();
+  }
+
+  @Test
+  void get_differentGeneration_returnsEmpty() {
+    GcsFooterCache cache = new GcsFooterCache(1024);
+    cache.put(ITEM_ID, ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    GcsItemId otherGeneration =
+        GcsItemId.builder()
+            .setBucketName("test-bucket")
+            .setObjectName("test-object")
+            .setContentGeneration(2L)
+            .build();
+
+    assertThat(cache.get(otherGeneration, 3)).isEmpty();
+  }
+
+  @Test
+  void put_itemWithoutGeneration_isNotCached() {
+    GcsFooterCache cache = new GcsFooterCache(1024);
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+
+    cache.put(itemId, ByteBuffer.wrap(new byte[] {1, 2, 3}));
+
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.get(itemId, 3)).isEmpty();
+  }
+
+  @Test
+  void put_shorterTail_keepsLongerTail() {
+    GcsFooterCache cache = new GcsFooterCache(1024);
+    cache.put(ITEM_ID, ByteBuffer.wrap(new byte[] {1, 2, 3, 4}));
+
+    cache.put(ITEM_ID, ByteBuffer.wrap(new byte[] {3, 4}));
+
+    assertThat(cache.get(ITEM_ID, 4)).isPresent();
+  }
+
+  @Test
+  void put_exceedingMaxSize_evictsEntries() {
+    GcsFooterCache cache = new GcsFooterCache(10);
+    GcsItemId otherItemId =
+        GcsItemId.builder()
+            .setBucketName("test-bucket")
+            .setObjectName("other-object")
+            .setContentGeneration(1L)
+            .build();
+    cache.put(ITEM_ID, ByteBuffer.wrap(new byte[8]));
+
+    cache.put(otherItemId, ByteBuffer.wrap(new byte[8]));
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.get(otherItemId, 8)).isPresent();
+  }
+
+  @Test
+  void invalidate_removesEntry() {
+    GcsFooterCache cache = new GcsFooterCache(1024);
+    cache.put(ITEM_ID, ByteBuffer.wrap(new byte[] {1, 2, 3}));
+
+    cache.invalidate(ITEM_ID);
+
+    assertThat(cache.get(ITEM_ID, 3)).isEmpty();
+  }
+}
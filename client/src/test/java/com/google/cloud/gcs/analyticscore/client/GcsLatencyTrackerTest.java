@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class GcsLatencyTrackerTest {
+
+  @Test
+  void getPercentile_tooFewSamples_returnsEmpty() {
+    GcsLatencyTracker tracker = new GcsLatencyTracker();
+    for (int i = 1; i < GcsLatencyTracker.MIN_SAMPLES; i++) {
+      tracker.record(i);
+    }
+
+    assertThat(tracker.getPercentile(50).isPresent()).isFalse();
+  }
+
+  @Test
+  void getPercentile_returnsNearestRankOfRecordedLatencies() {
+    GcsLatencyTracker tracker = new GcsLatencyTracker();
+    for (int i = 100; i >= 1; i--) {
+      tracker.record(i);
+    }
+
+    assertThat(tracker.getPercentile(50).getAsLong()).isEqualTo(50);
+    assertThat(tracker.getPercentile(95).getAsLong()).isEqualTo(95);
+    assertThat(tracker.getPercentile(100).getAsLong()).isEqualTo(100);
+  }
+
+  @Test
+  void getPercentile_moreSamplesThanWindow_ignoresOldestLatencies() {
+    GcsLatencyTracker tracker = new GcsLatencyTracker();
+    for (int i = 0; i < 1000; i++) {
+      tracker.record(1_000_000);
+    }
+    for (int i = 0; i < 256; i++) {
+      tracker.record(10);
+    }
+
+    assertThat(tracker.getPercentile(100).getAsLong()).isEqualTo(10);
+  }
+
+  @Test
+  void getPercentile_outOfRange_throwsIllegalArgumentException() {
+    GcsLatencyTracker tracker = new GcsLatencyTracker();
+
+    assertThrows(IllegalArgumentException.class, () -> tracker.getPercentile(0));
+    assertThrows(IllegalArgumentException.class, () -> tracker.getPercentile(101));
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class GcsMergeGapTunerTest {
+
+  private static final long TEN_MS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  @Test
+  void getMergeGap_tooFewReads_returnsEmpty() {
+    GcsMergeGapTuner tuner = new GcsMergeGapTuner();
+    for (int i = 1; i < GcsLatencyTracker.MIN_SAMPLES; i++) {
+      tuner.record(TEN_MS, 1_000_000, 2 * TEN_MS);
+    }
+
+    assertThat(tuner.getMergeGap(0, Integer.MAX_VALUE).isPresent()).isFalse();
+  }
+
+  @Test
+  void getMergeGap_returnsBytesTransferredDuringFirstByteLatency() {
+    GcsMergeGapTuner tuner = new GcsMergeGapTuner();
+    // 10 ms to first byte, then 1 MB in 10 ms: 1 MB goes by while waiting for a new request.
+    for (int i = 0; i < GcsLatencyTracker.MIN_SAMPLES; i++) {
+      tuner.record(TEN_MS, 1_000_000, 2 * TEN_MS);
+    }
+
+    assertThat(tuner.getMergeGap(0, Integer.MAX_VALUE).getAsInt()).isEqualTo(1_000_000);
+  }
+
+  @Test
+  void getMergeGap_breakEvenOutsideBounds_returnsClosestBound() {
+    GcsMergeGapTuner tuner = new GcsMergeGapTuner();
+    for (int i = 0; i < GcsLatencyTracker.MIN_SAMPLES; i++) {
+      tuner.record(TEN_MS, 1_000_000, 2 * TEN_MS);
+    }
+
+    assertThat(tuner.getMergeGap(0, 4096).getAsInt()).isEqualTo(4096);
+    assertThat(tuner.getMergeGap(2_000_000, 4_000_000).getAsInt()).isEqualTo(2_000_000);
+  }
+
+  @Test
+  void getMergeGap_noTransferAfterFirstByte_returnsEmpty() {
+    GcsMergeGapTuner tuner = new GcsMergeGapTuner();
+    for (int i = 0; i < GcsLatencyTracker.MIN_SAMPLES; i++) {
+      tuner.record(TEN_MS, 100, TEN_MS);
+    }
+
+    assertThat(tuner.getMergeGap(0, Integer.MAX_VALUE).isPresent()).isFalse();
+  }
+
+  @Test
+  void getMergeGap_minAboveMax_throwsIllegalArgumentException() {
+    GcsMergeGapTuner tuner = new GcsMergeGapTuner();
+
+    assertThrows(IllegalArgumentException.class, () -> tuner.getMergeGap(10, 1));
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class GcsMetadataCacheTest {
+
+  private static final GcsItemId ITEM_ID =
+      GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+  private static final GcsItemInfo ITEM_INFO =
+      GcsItemInfo.builder().setItemId(ITEM_ID).setSize(100).setContentGeneration(5L).build();
+
+  private final FakeTicker ticker = new FakeTicker();
+
+  @Test
+  void constructor_nonPositiveArguments_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new GcsMetadataCache(0, 1000));
+    assertThrows(IllegalArgumentException.class, () -> new GcsMetadataCache(10, 0));
+  }
+
+  @Test
+  void get_afterPut_returnsCachedInfo() {
+    GcsMetadataCache cache = new GcsMetadataCache(10, 1000, ticker);
+
+    cache.put(ITEM_ID, ITEM_INFO);
+
+    assertThat(cache.get(ITEM_ID)).hasValue(ITEM_INFO);
+  }
+
+  @Test
+  void get_withGeneration_onlyMatchesCachedGeneration() {
+    GcsMetadataCache cache = new GcsMetadataCache(10, 1000, ticker);
+    cache.put(ITEM_ID, ITEM_INFO);
+
+    assertThat(cache.get(withGeneration(5L))).hasValue(ITEM_INFO);
+    assertThat(cache.get(withGeneration(4L)).isPresent()).isFalse();
+  }
+
+  @Test
+  void put_withGeneration_isIgnored() {
+    GcsMetadataCache cache = new GcsMetadataCache(10, 1000, ticker);
+
+    cache.put(withGeneration(5L), ITEM_INFO);
+
+    assertThat(cache.size()).isEqualTo(0);
+  }
+
+  @Test
+  void get_afterTtl_returnsEmpty() {
+    GcsMetadataCache cache = new GcsMetadataCache(10, 1000, ticker);
+    cache.put(ITEM_ID, ITEM_INFO);
+
+    ticker.advance(1001, TimeUnit.MILLISECONDS);
+
+    assertThat(cache.get(ITEM_ID).isPresent()).isFalse();
+  }
+
+  @Test
+  void invalidate_withGeneration_removesObject() {
+    GcsMetadataCache cache = new GcsMetadataCache(10, 1000, ticker);
+    cache.put(ITEM_ID, ITEM_INFO);
+
+    cache.invalidate(withGeneration(5L));
+
+    assertThat(cache.get(ITEM_ID).isPresent()).isFalse();
+  }
+
+  @Test
+  void put_moreObjectsThanMaxEntries_evictsEntries() {
+    GcsMetadataCache cache = new GcsMetadataCache(2, 1000, ticker);
+
+    for (int i = 0; i < 5; i++) {
+      GcsItemId itemId =
+          GcsItemId.builder().setBucketName("test-bucket").setObjectName("object-" + i).build();
+      cache.put(itemId, GcsItemInfo.builder().setItemId(itemId).setSize(i).build());
+    }
+
+    assertThat(cache.size()).isAtMost(2);
+  }
+
+  @Test
+  void get_bucket_returnsEmpty() {
+    GcsMetadataCache cache = new GcsMetadataCache(10, 1000, ticker);
+
+    assertThat(cache.get(GcsItemId.builder().setBucketName("test-bucket").build()).isPresent())
+        .isFalse();
+  }
+
+  private static GcsItemId withGeneration(long generation) {
+    return GcsItemId.builder()
+        .setBucketName("test-bucket")
+        .setObjectName("test-object")
+        .setContentGeneration(generation)
+        .build();
+  }
+
+  private static final class FakeTicker extends Ticker {
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Override
+    public long read() {
+      return nanos.get();
+    }
+
+    void advance(long duration, TimeUnit unit) {
+      nanos.addAndGet(unit.toNanos(duration));
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+
+class GcsObjectChunkedRangeTest {
+
+  @Test
+  void getChunkRanges_rangeLargerThanIntegerMax_splitsIntoChunks() {
+    long length = 3L * Integer.MAX_VALUE;
+    GcsObjectChunkedRange range =
+        createChunkedRange(/* offset= */ 10, length, /* chunkSize= */ Integer.MAX_VALUE);
+
+    ImmutableList<GcsObjectRange> chunks = range.getChunkRanges();
+
+    assertThat(chunks).hasSize(3);
+    assertThat(chunks.get(0).getOffset()).isEqualTo(10);
+    assertThat(chunks.get(1).getOffset()).isEqualTo(10L + Integer.MAX_VALUE);
+    assertThat(chunks.get(2).getOffset()).isEqualTo(10L + 2L * Integer.MAX_VALUE);
+    assertThat(chunks.get(2).getLength()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(range.getChunkRanges()).isSameInstanceAs(chunks);
+  }
+
+  @Test
+  void getChunkRanges_lengthNotMultipleOfChunkSize_lastChunkIsShorter() {
+    GcsObjectChunkedRange range =
+        createChunkedRange(/* offset= */ 0, /* length= */ 10, /* chunkSize= */ 4);
+
+    ImmutableList<GcsObjectRange> chunks = range.getChunkRanges();
+
+    assertThat(chunks).hasSize(3);
+    assertThat(chunks.get(2).getOffset()).isEqualTo(8);
+    assertThat(chunks.get(2).getLength()).isEqualTo(2);
+  }
+
+  @Test
+  void getChunksFuture_allChunksCompleted_returnsChunksInOrder() throws Exception {
+    GcsObjectChunkedRange range =
+        createChunkedRange(/* offset= */ 0, /* length= */ 8, /* chunkSize= */ 4);
+    ImmutableList<GcsObjectRange> chunks = range.getChunkRanges();
+    ByteBuffer first = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+    ByteBuffer second = ByteBuffer.wrap(new byte[] {5, 6, 7, 8});
+
+    chunks.get(1).getByteBufferFuture().complete(second);
+    assertThat(range.getChunksFuture().isDone()).isFalse();
+    chunks.get(0).getByteBufferFuture().complete(first);
+
+    assertThat(range.getChunksFuture().get()).containsExactly(first, second).inOrder();
+  }
+
+  @Test
+  void getChunksFuture_chunkFails_completesExceptionally() {
+    GcsObjectChunkedRange range =
+        createChunkedRange(/* offset= */ 0, /* length= */ 8, /* chunkSize= */ 4);
+    IOException failure = new IOException("read failed");
+
+    range.getChunkRanges().get(1).getByteBufferFuture().completeExceptionally(failure);
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> range.getChunksFuture().get());
+    assertThat(exception).hasCauseThat().isSameInstanceAs(failure);
+  }
+
+  @Test
+  void build_nonPositiveChunkSize_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> createChunkedRange(/* offset= */ 0, /* length= */ 8, /* chunkSize= */ 0));
+  }
+
+  private GcsObjectChunkedRange createChunkedRange(long offset, long length, int chunkSize) {
+    return GcsObjectChunkedRange.builder()
+        .setOffset(offset)
+        .setLength(length)
+        .setChunkSize(chunkSize)
+        .setChunksFuture(new CompletableFuture<List<ByteBuffer>>())
+        .build();
+  }
+}
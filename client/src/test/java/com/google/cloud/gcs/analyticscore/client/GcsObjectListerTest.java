@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.StorageException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.Test;
+
+class GcsObjectListerTest {
+
+  private static final String BUCKET = "test-bucket";
+  private static final String LISTED_PATH = "gs://test-bucket/dir/";
+
+  private final ExecutorService executorService = MoreExecutors.newDirectExecutorService();
+
+  @Test
+  void next_multiplePages_returnsObjectsOfAllPagesInOrder() {
+    Page<Blob> lastPage = page(ImmutableList.of(blob("dir/c", 3L)), null);
+    Page<Blob> firstPage = page(ImmutableList.of(blob("dir/a", 1L), blob("dir/b", 2L)), lastPage);
+
+    List<GcsItemInfo> itemInfos = new ArrayList<>();
+    new GcsObjectLister(firstPage, executorService, LISTED_PATH).forEachRemaining(itemInfos::add);
+
+    assertThat(itemInfos).hasSize(3);
+    assertThat(itemInfos.get(0).getItemId().getObjectName()).hasValue("dir/a");
+    assertThat(itemInfos.get(0).getContentGeneration()).hasValue(1L);
+    assertThat(itemInfos.get(0).getSize()).isEqualTo(10);
+    assertThat(itemInfos.get(1).getItemId().getObjectName()).hasValue("dir/b");
+    assertThat(itemInfos.get(2).getItemId().getObjectName()).hasValue("dir/c");
+  }
+
+  @Test
+  void constructor_moreThanOnePage_prefetchesNextPageBeforeItIsConsumed() {
+    Page<Blob> lastPage = page(ImmutableList.of(blob("dir/b", 2L)), null);
+    Page<Blob> firstPage = page(ImmutableList.of(blob("dir/a", 1L)), lastPage);
+
+    GcsObjectLister lister = new GcsObjectLister(firstPage, executorService, LISTED_PATH);
+
+    verify(firstPage).getNextPage();
+    verify(lastPage, never()).getNextPage();
+    assertThat(lister.next().getItemId().getObjectName()).hasValue("dir/a");
+  }
+
+  @Test
+  void constructor_executorRejectsPrefetch_fetchesNextPageOnlyWhenConsumed() {
+    Page<Blob> lastPage = page(ImmutableList.of(blob("dir/b", 2L)), null);
+    Page<Blob> firstPage = page(ImmutableList.of(blob("dir/a", 1L)), lastPage);
+    ExecutorService rejectingExecutor = MoreExecutors.newDirectExecutorService();
+    rejectingExecutor.shutdown();
+
+    GcsObjectLister lister = new GcsObjectLister(firstPage, rejectingExecutor, LISTED_PATH);
+
+    verify(firstPage, never()).getNextPage();
+    assertThat(lister.next().getItemId().getObjectName()).hasValue("dir/a");
+    verify(firstPage, never()).getNextPage();
+    assertThat(lister.next().getItemId().getObjectName()).hasValue("dir/b");
+    assertThat(lister.hasNext()).isFalse();
+  }
+
+  @Test
+  void hasNext_emptyPageFollowedByObjects_skipsEmptyPage() {
+    Page<Blob> lastPage = page(ImmutableList.of(blob("dir/a", 1L)), null);
+    Page<Blob> firstPage = page(ImmutableList.of(), lastPage);
+
+    GcsObjectLister lister = new GcsObjectLister(firstPage, executorService, LISTED_PATH);
+
+    assertThat(lister.hasNext()).isTrue();
+    assertThat(lister.next().getItemId().getObjectName()).hasValue("dir/a");
+    assertThat(lister.hasNext()).isFalse();
+    assertThrows(NoSuchElementException.class, lister::next);
+  }
+
+  @Test
+  void hasNext_nextPageFails_throwsUncheckedIOException() {
+    Page<Blob> firstPage = page(ImmutableList.of(blob("dir/a", 1L)), null);
+    when(firstPage.hasNextPage()).thenReturn(true);
+    when(firstPage.getNextPage()).thenThrow(new StorageException(503, "Unavailable"));
+    GcsObjectLister lister = new GcsObjectLister(firstPage, executorService, LISTED_PATH);
+    lister.next();
+
+    UncheckedIOException e = assertThrows(UncheckedIOException.class, lister::hasNext);
+
+    assertThat(e).hasCauseThat().hasMessageThat().contains(LISTED_PATH);
+    assertThat(e).hasCauseThat().hasCauseThat().isInstanceOf(StorageException.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Page<Blob> page(List<Blob> blobs, Page<Blob> nextPage) {
+    Page<Blob> page = mock(Page.class);
+    when(page.getValues()).thenReturn(blobs);
+    when(page.hasNextPage()).thenReturn(nextPage != null);
+    if (nextPage != null) {
+      when(page.getNextPage()).thenReturn(nextPage);
+    }
+    return page;
+  }
+
+  private static Blob blob(String name, long generation) {
+    Blob blob = mock(Blob.class);
+    when(blob.getBucket()).thenReturn(BUCKET);
+    when(blob.getName()).thenReturn(name);
+    when(blob.getGeneration()).thenReturn(generation);
+    when(blob.getSize()).thenReturn(10L);
+    return blob;
+  }
+}
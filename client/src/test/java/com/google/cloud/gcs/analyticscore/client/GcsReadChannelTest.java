@@ -22,22 +22,34 @@ import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
 import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -50,6 +62,12 @@ class GcsReadChannelTest {
   private final Supplier<ExecutorService> executorServiceSupplier =
       Suppliers.memoize(() -> Executors.newFixedThreadPool(30));
   private final Storage storage = Mockito.spy(LocalStorageHelper.getOptions().getService());
+  private final ScheduledExecutorService hedgeTimer = Executors.newSingleThreadScheduledExecutor();
+
+  @AfterEach
+  void tearDown() {
+    hedgeTimer.shutdownNow();
+  }
 
   @Test
   void constructor_nullStorage_throwsNullPointerException() {
@@ -236,6 +254,349 @@ class GcsReadChannelTest {
     assertThat(gcsReadChannel.position()).isEqualTo(11L);
   }
 
+  @Test
+  void read_readaheadEnabled_readsObjectSequentially() throws IOException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "The quick brown fox jumps over the lazy dog";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    GcsReadOptions readOptions = createReadaheadOptions(/* minSize= */ 4, /* maxSize= */ 16);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, executorServiceSupplier);
+    ByteBuffer result = ByteBuffer.allocate(objectData.length());
+    ByteBuffer buffer = ByteBuffer.allocate(3);
+
+    while (gcsReadChannel.read(buffer) > 0) {
+      buffer.flip();
+      result.put(buffer);
+      buffer.clear();
+    }
+
+    assertThat(new String(result.array(), StandardCharsets.UTF_8)).isEqualTo(objectData);
+    assertThat(gcsReadChannel.position()).isEqualTo(objectData.length());
+  }
+
+  @Test
+  void read_readaheadWithDirectBuffers_readsObjectSequentially() throws IOException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "The quick brown fox jumps over the lazy dog";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder()
+            .setUserProjectId(TEST_PROJECT_ID)
+            .setReadaheadEnabled(true)
+            .setReadaheadMinSize(4)
+            .setReadaheadMaxSize(16)
+            .setDirectBuffersEnabled(true)
+            .build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, executorServiceSupplier);
+    ByteBuffer result = ByteBuffer.allocate(objectData.length());
+    ByteBuffer buffer = ByteBuffer.allocateDirect(5);
+
+    while (gcsReadChannel.read(buffer) > 0) {
+      buffer.flip();
+      result.put(buffer);
+      buffer.clear();
+    }
+
+    assertThat(new String(result.array(), StandardCharsets.UTF_8)).isEqualTo(objectData);
+  }
+
+  @Test
+  void read_readaheadEnabled_afterSeek_readsFromNewPosition() throws IOException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "The quick brown fox jumps over the lazy dog";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    GcsReadOptions readOptions = createReadaheadOptions(/* minSize= */ 4, /* maxSize= */ 16);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, executorServiceSupplier);
+    ByteBuffer buffer1 = ByteBuffer.allocate(3);
+    ByteBuffer buffer2 = ByteBuffer.allocate(4);
+    ByteBuffer buffer3 = ByteBuffer.allocate(4);
+
+    gcsReadChannel.read(buffer1);
+    gcsReadChannel.position(35);
+    gcsReadChannel.read(buffer2);
+    gcsReadChannel.position(10);
+    gcsReadChannel.read(buffer3);
+
+    assertThat(new String(buffer1.array(), StandardCharsets.UTF_8)).isEqualTo("The");
+    assertThat(new String(buffer2.array(), StandardCharsets.UTF_8)).isEqualTo("lazy");
+    assertThat(new String(buffer3.array(), StandardCharsets.UTF_8)).isEqualTo("brow");
+    assertThat(gcsReadChannel.position()).isEqualTo(14);
+  }
+
+  @Test
+  void read_readaheadEnabled_sequentialRead_fetchesNextWindowInBackground() throws IOException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "The quick brown fox jumps over the lazy dog";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    ExecutorService executorService = Mockito.spy(Executors.newSingleThreadExecutor());
+    GcsReadOptions readOptions = createReadaheadOptions(/* minSize= */ 4, /* maxSize= */ 16);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, () -> executorService);
+    ByteBuffer buffer = ByteBuffer.allocate(4);
+
+    gcsReadChannel.read(buffer);
+
+    Mockito.verify(executorService).submit(Mockito.<Callable<ByteBuffer>>any());
+    buffer.clear();
+    assertThat(gcsReadChannel.read(buffer)).isEqualTo(4);
+    assertThat(new String(buffer.array(), StandardCharsets.UTF_8)).isEqualTo("quic");
+  }
+
+  @Test
+  void read_readaheadEnabled_afterSeek_doesNotFetchInBackground() throws IOException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "The quick brown fox jumps over the lazy dog";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    ExecutorService executorService = Mockito.spy(Executors.newSingleThreadExecutor());
+    GcsReadOptions readOptions = createReadaheadOptions(/* minSize= */ 4, /* maxSize= */ 16);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, () -> executorService);
+    ByteBuffer buffer = ByteBuffer.allocate(4);
+
+    gcsReadChannel.position(35);
+    gcsReadChannel.read(buffer);
+
+    Mockito.verify(executorService, Mockito.never()).submit(Mockito.<Callable<ByteBuffer>>any());
+    assertThat(new String(buffer.array(), StandardCharsets.UTF_8)).isEqualTo("lazy");
+  }
+
+  @Test
+  void close_readaheadRunning_waitsForReadaheadBeforeClosingReadChannel() throws Exception {
+    CountDownLatch readaheadStarted = new CountDownLatch(1);
+    CountDownLatch releaseReadahead = new CountDownLatch(1);
+    ReadChannel mockReadChannel = mockReadChannel();
+    Mockito.when(mockReadChannel.read(Mockito.any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              ByteBuffer buffer = invocation.getArgument(0);
+              int bytesRead = buffer.remaining();
+              buffer.position(buffer.limit());
+              return bytesRead;
+            })
+        .thenAnswer(
+            invocation -> {
+              readaheadStarted.countDown();
+              // Like a blocking network read, ignores the interruption of the cancelled task.
+              Uninterruptibles.awaitUninterruptibly(releaseReadahead);
+              return -1;
+            });
+    Storage mockStorage = Mockito.mock(Storage.class);
+    Mockito.when(
+            mockStorage.reader(
+                Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
+        .thenReturn(mockReadChannel);
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder().setItemId(itemId).setSize(100).setContentGeneration(0L).build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            mockStorage,
+            itemInfo,
+            createReadaheadOptions(/* minSize= */ 4, /* maxSize= */ 16),
+            executorServiceSupplier);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+    assertThat(readaheadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    CompletableFuture<Void> closed =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                gcsReadChannel.close();
+              } catch (IOException e) {
+                throw new IllegalStateException(e);
+              }
+            });
+
+    assertThrows(TimeoutException.class, () -> closed.get(100, TimeUnit.MILLISECONDS));
+    Mockito.verify(mockReadChannel, Mockito.never()).close();
+    releaseReadahead.countDown();
+    closed.get(5, TimeUnit.SECONDS);
+    Mockito.verify(mockReadChannel).close();
+  }
+
+  @Test
+  void position_sequentialAccessPolicy_seeksWithoutLimit() throws IOException {
+    ReadChannel mockReadChannel = mockReadChannel();
+    GcsReadChannel gcsReadChannel =
+        createChannelWithAccessPolicy(mockReadChannel, GcsReadOptions.AccessPolicy.SEQUENTIAL);
+
+    gcsReadChannel.position(10);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+
+    Mockito.verify(mockReadChannel).seek(10);
+    Mockito.verify(mockReadChannel, Mockito.never()).limit(Mockito.anyLong());
+  }
+
+  @Test
+  void read_randomAccessPolicy_boundsRequestToMinRequestSize() throws IOException {
+    ReadChannel mockReadChannel = mockReadChannel();
+    GcsReadChannel gcsReadChannel =
+        createChannelWithAccessPolicy(mockReadChannel, GcsReadOptions.AccessPolicy.RANDOM);
+
+    gcsReadChannel.position(10);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+
+    Mockito.verify(mockReadChannel).seek(10);
+    Mockito.verify(mockReadChannel).limit(26);
+  }
+
+  @Test
+  void read_randomAccessPolicy_largeRead_boundsRequestToReadSize() throws IOException {
+    ReadChannel mockReadChannel = mockReadChannel();
+    GcsReadChannel gcsReadChannel =
+        createChannelWithAccessPolicy(mockReadChannel, GcsReadOptions.AccessPolicy.RANDOM);
+
+    gcsReadChannel.position(10);
+    gcsReadChannel.read(ByteBuffer.allocate(32));
+
+    Mockito.verify(mockReadChannel).limit(42);
+  }
+
+  @Test
+  void read_randomAccessPolicy_pastRequestLimit_startsNewRequest() throws IOException {
+    ReadChannel mockReadChannel = mockReadChannel();
+    Mockito.when(mockReadChannel.read(Mockito.any(ByteBuffer.class))).thenReturn(16);
+    GcsReadChannel gcsReadChannel =
+        createChannelWithAccessPolicy(mockReadChannel, GcsReadOptions.AccessPolicy.RANDOM);
+
+    gcsReadChannel.read(ByteBuffer.allocate(16));
+    gcsReadChannel.read(ByteBuffer.allocate(16));
+
+    Mockito.verify(mockReadChannel).limit(16);
+    Mockito.verify(mockReadChannel).seek(16);
+    Mockito.verify(mockReadChannel).limit(32);
+  }
+
+  @Test
+  void read_adaptiveAccessPolicy_switchesToRandomAfterLongSeeks() throws IOException {
+    ReadChannel mockReadChannel = mockReadChannel();
+    GcsReadChannel gcsReadChannel =
+        createChannelWithAccessPolicy(mockReadChannel, GcsReadOptions.AccessPolicy.ADAPTIVE);
+    gcsReadChannel.position(50);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+    Mockito.verify(mockReadChannel, Mockito.never()).limit(Mockito.anyLong());
+
+    gcsReadChannel.position(20);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+
+    Mockito.verify(mockReadChannel).seek(20);
+    Mockito.verify(mockReadChannel).limit(36);
+  }
+
+  @Test
+  void read_adaptiveAccessPolicy_shortForwardSeeks_staysSequential() throws IOException {
+    ReadChannel mockReadChannel = mockReadChannel();
+    GcsReadChannel gcsReadChannel =
+        createChannelWithAccessPolicy(mockReadChannel, GcsReadOptions.AccessPolicy.ADAPTIVE);
+
+    gcsReadChannel.position(10);
+    gcsReadChannel.position(20);
+    gcsReadChannel.position(30);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+
+    Mockito.verify(mockReadChannel, Mockito.never()).limit(Mockito.anyLong());
+  }
+
+  @Test
+  void position_samePosition_doesNotSeekReadChannel() throws IOException {
+    ReadChannel mockReadChannel = mockReadChannelFillingBuffers();
+    GcsReadChannel gcsReadChannel =
+        createChannelWithAccessPolicy(mockReadChannel, GcsReadOptions.AccessPolicy.SEQUENTIAL);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+
+    gcsReadChannel.position(4);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+
+    Mockito.verify(mockReadChannel, Mockito.never()).seek(Mockito.anyLong());
+    assertThat(gcsReadChannel.position()).isEqualTo(8);
+  }
+
+  @Test
+  void position_smallForwardSeek_drainsOpenResponse() throws IOException {
+    ReadChannel mockReadChannel = mockReadChannelFillingBuffers();
+    GcsReadChannel gcsReadChannel =
+        createChannelWithAccessPolicy(mockReadChannel, GcsReadOptions.AccessPolicy.SEQUENTIAL);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+
+    gcsReadChannel.position(20);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+
+    Mockito.verify(mockReadChannel, Mockito.never()).seek(Mockito.anyLong());
+    Mockito.verify(mockReadChannel, Mockito.times(3)).read(Mockito.any(ByteBuffer.class));
+    assertThat(gcsReadChannel.position()).isEqualTo(24);
+  }
+
+  @Test
+  void position_largeForwardSeek_seeksReadChannel() throws IOException {
+    ReadChannel mockReadChannel = mockReadChannelFillingBuffers();
+    GcsReadChannel gcsReadChannel =
+        createChannelWithAccessPolicy(mockReadChannel, GcsReadOptions.AccessPolicy.SEQUENTIAL);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+
+    gcsReadChannel.position(80);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+
+    Mockito.verify(mockReadChannel).seek(80);
+    Mockito.verify(mockReadChannel, Mockito.times(2)).read(Mockito.any(ByteBuffer.class));
+  }
+
+  @Test
+  void position_backwardSeek_seeksReadChannel() throws IOException {
+    ReadChannel mockReadChannel = mockReadChannelFillingBuffers();
+    GcsReadChannel gcsReadChannel =
+        createChannelWithAccessPolicy(mockReadChannel, GcsReadOptions.AccessPolicy.SEQUENTIAL);
+    gcsReadChannel.read(ByteBuffer.allocate(8));
+
+    gcsReadChannel.position(2);
+    gcsReadChannel.read(ByteBuffer.allocate(4));
+
+    Mockito.verify(mockReadChannel).seek(2);
+  }
+
   @Test
   void position_negative_throwsEOFException() throws IOException {
     GcsItemId itemId =
@@ -436,6 +797,47 @@ class GcsReadChannelTest {
         .reader(blobId, sourceOptions.toArray(new Storage.BlobSourceOption[0]));
   }
 
+  @Test
+  void readVectoredHighPriority_readsQueued_runsBeforeQueuedReads() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world,this is a test string for vectored read.";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    GcsReadScheduler scheduler = new GcsReadScheduler(1, 0, Executors.defaultThreadFactory());
+    CountDownLatch blocker = new CountDownLatch(1);
+    var unused = scheduler.submit(() -> Uninterruptibles.awaitUninterruptibly(blocker));
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, TEST_GCS_READ_OPTIONS, () -> scheduler);
+    GcsObjectRange dataRange = createRange(0, 5);
+    GcsObjectRange footerRange = createRange(objectData.length() - 5, 5);
+    List<String> completionOrder = new CopyOnWriteArrayList<>();
+    CompletableFuture<Void> dataDone =
+        dataRange.getByteBufferFuture().thenRun(() -> completionOrder.add("data"));
+    CompletableFuture<Void> footerDone =
+        footerRange.getByteBufferFuture().thenRun(() -> completionOrder.add("footer"));
+
+    try {
+      gcsReadChannel.readVectored(ImmutableList.of(dataRange), ByteBuffer::allocate);
+      gcsReadChannel.readVectoredHighPriority(ImmutableList.of(footerRange), ByteBuffer::allocate);
+      blocker.countDown();
+
+      dataDone.get();
+      footerDone.get();
+      assertThat(getGcsObjectRangeData(dataRange)).isEqualTo("hello");
+      assertThat(getGcsObjectRangeData(footerRange)).isEqualTo("read.");
+      assertThat(completionOrder).containsExactly("footer", "data").inOrder();
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
   @Test
   void readVectored_rangesCanBeMerged_readsRanges()
       throws IOException, ExecutionException, InterruptedException {
@@ -477,10 +879,15 @@ class GcsReadChannelTest {
   }
 
   @Test
-  void readVectored_allocationError_completesFuturesExceptionally() throws IOException {
+  void readVectored_withRelease_releasesCombinedBufferOnceAllRangesReleased()
+      throws IOException, ExecutionException, InterruptedException {
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder().setMaxMergeGap(10).build();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder().setGcsVectoredReadOptions(vectoredReadOptions).build();
     GcsItemId itemId =
         GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
-    String objectData = "hello world";
+    String objectData = "hello world,this is a test string for vectored read.";
     GcsItemInfo itemInfo =
         GcsItemInfo.builder()
             .setItemId(itemId)
@@ -490,75 +897,293 @@ class GcsReadChannelTest {
     createBlobInStorage(
         BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
     GcsReadChannel gcsReadChannel =
-        new GcsReadChannel(storage, itemInfo, TEST_GCS_READ_OPTIONS, executorServiceSupplier);
-    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5));
-    IntFunction<ByteBuffer> badAllocator =
-        size -> {
-          throw new RuntimeException("Allocation failed");
-        };
+        new GcsReadChannel(storage, itemInfo, readOptions, executorServiceSupplier);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5, 6L, 5));
+    List<ByteBuffer> releasedBuffers = new CopyOnWriteArrayList<>();
 
-    gcsReadChannel.readVectored(ranges, badAllocator);
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate, releasedBuffers::add);
+    assertThat(getGcsObjectRangeData(ranges.get(0))).isEqualTo("hello");
+    assertThat(getGcsObjectRangeData(ranges.get(1))).isEqualTo("world");
+    gcsReadChannel.releaseRange(ranges.get(0));
+    gcsReadChannel.releaseRange(ranges.get(0));
+    assertThat(releasedBuffers).isEmpty();
+    gcsReadChannel.releaseRange(ranges.get(1));
 
-    ExecutionException e =
-        assertThrows(ExecutionException.class, () -> ranges.get(0).getByteBufferFuture().get());
-    assertThat(e).hasCauseThat().isInstanceOf(IOException.class);
-    assertThat(e).hasCauseThat().hasMessageThat().contains("Error while populating childRange");
-    assertThat(e.getCause().getCause()).isInstanceOf(RuntimeException.class);
-    assertThat(e.getCause().getCause()).hasMessageThat().isEqualTo("Allocation failed");
+    assertThat(releasedBuffers).hasSize(1);
+    assertThat(releasedBuffers.get(0).capacity()).isEqualTo(11);
   }
 
   @Test
-  void readVectored_combinedRange_partialFirstRead_readsFully() throws Exception {
+  void readVectored_withRelease_failedRead_releasesBuffer() throws IOException {
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder().setMaxMergeGap(10).build();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder().setGcsVectoredReadOptions(vectoredReadOptions).build();
     GcsItemId itemId =
         GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
-    String objectData = "abcdefghijklmnopqrstuvwxyz";
-    GcsItemInfo itemInfo =
-        GcsItemInfo.builder()
-            .setItemId(itemId)
-            .setSize(objectData.length())
-            .setContentGeneration(0L)
-            .build();
-    createBlobInStorage(
-        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
-
+    GcsItemInfo itemInfo = GcsItemInfo.builder().setItemId(itemId).setSize(100).build();
     Storage mockStorage = Mockito.mock(Storage.class);
-    ReadChannel mockReadChannel = Mockito.mock(ReadChannel.class);
+    ReadChannel mockReadChannel = mockReadChannel();
+    Mockito.when(mockReadChannel.read(Mockito.any(ByteBuffer.class)))
+        .thenThrow(new StorageException(404, "Not found"));
     Mockito.when(
             mockStorage.reader(
                 Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
         .thenReturn(mockReadChannel);
-    Mockito.when(mockReadChannel.isOpen()).thenReturn(true);
-
-    byte[] dataBytes = objectData.getBytes(StandardCharsets.UTF_8);
-    var ref =
-        new Object() {
-          int callCount = 0;
-        };
-
-    Mockito.when(mockReadChannel.read(Mockito.any(ByteBuffer.class)))
-        .thenAnswer(
-            invocation -> {
-              ByteBuffer buffer = invocation.getArgument(0);
-              if (ref.callCount == 0) {
-                // Return 1 byte on the first call
-                buffer.put(dataBytes, 0, 1);
-                ref.callCount++;
-                return 1;
-              } else {
-                // Return the rest on the second call
-                int remaining = buffer.remaining();
-                buffer.put(dataBytes, 1, remaining);
-                return remaining;
-              }
-            });
-
     GcsReadChannel gcsReadChannel =
-        new GcsReadChannel(mockStorage, itemInfo, TEST_GCS_READ_OPTIONS, executorServiceSupplier);
-    GcsObjectRange range1 = createRange(0, 10);
-    ImmutableList<GcsObjectRange> ranges = ImmutableList.of(range1);
-    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
-
-    assertThat(getGcsObjectRangeData(range1)).isEqualTo("abcdefghij");
+        new GcsReadChannel(mockStorage, itemInfo, readOptions, executorServiceSupplier);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5, 6L, 5));
+    List<ByteBuffer> releasedBuffers = new CopyOnWriteArrayList<>();
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate, releasedBuffers::add);
+
+    assertThrows(ExecutionException.class, () -> ranges.get(0).getByteBufferFuture().get());
+    assertThrows(ExecutionException.class, () -> ranges.get(1).getByteBufferFuture().get());
+    assertThat(releasedBuffers).hasSize(1);
+    assertThat(releasedBuffers.get(0).capacity()).isEqualTo(11);
+    gcsReadChannel.releaseRange(ranges.get(0));
+    assertThat(releasedBuffers).hasSize(1);
+  }
+
+  @Test
+  void readVectored_rangeLargerThanSplitSize_readsPartsInParallel()
+      throws IOException, ExecutionException, InterruptedException {
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder().setMaxMergeGap(10).setSplitSize(16).build();
+    List<Storage.BlobSourceOption> sourceOptions = Lists.newArrayList();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder().setGcsVectoredReadOptions(vectoredReadOptions).build();
+    GcsItemId itemId =
+        GcsItemId.builder()
+            .setBucketName("test-bucket")
+            .setObjectName("test-object")
+            .setContentGeneration(0L)
+            .build();
+    String objectData = "hello world,this is a test string for vectored read.";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    BlobId blobId = BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L);
+    createBlobInStorage(blobId, objectData);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, executorServiceSupplier);
+    // "hello world,this is a test string for vectored", "this"
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 46, 12L, 4));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(getGcsObjectRangeData(ranges.get(0)))
+        .isEqualTo("hello world,this is a test string for vectored");
+    assertThat(getGcsObjectRangeData(ranges.get(1))).isEqualTo("this");
+    // One reader opened by the channel itself and one for each of the 3 parts of the range.
+    Mockito.verify(storage, Mockito.times(4))
+        .reader(blobId, sourceOptions.toArray(new Storage.BlobSourceOption[0]));
+  }
+
+  @Test
+  void readVectored_splitRangePastEndOfObject_completesExceptionallyAndReleasesBuffer()
+      throws IOException {
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder().setSplitSize(4).build();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder().setGcsVectoredReadOptions(vectoredReadOptions).build();
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, executorServiceSupplier);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(6L, 10));
+    List<ByteBuffer> releasedBuffers = new CopyOnWriteArrayList<>();
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate, releasedBuffers::add);
+
+    assertThrows(ExecutionException.class, () -> ranges.get(0).getByteBufferFuture().get());
+    assertThat(releasedBuffers).hasSize(1);
+  }
+
+  @Test
+  void readVectoredChunked_readsRangeAsChunks()
+      throws IOException, ExecutionException, InterruptedException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world,this is a test string for vectored read.";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, TEST_GCS_READ_OPTIONS, executorServiceSupplier);
+    GcsObjectChunkedRange range =
+        GcsObjectChunkedRange.builder()
+            .setOffset(6)
+            .setLength(40)
+            .setChunkSize(16)
+            .setChunksFuture(new CompletableFuture<>())
+            .build();
+
+    gcsReadChannel.readVectoredChunked(ImmutableList.of(range), ByteBuffer::allocate);
+    List<ByteBuffer> chunks = range.getChunksFuture().get();
+
+    assertThat(chunks).hasSize(3);
+    StringBuilder rangeData = new StringBuilder();
+    for (ByteBuffer chunk : chunks) {
+      rangeData.append(StandardCharsets.UTF_8.decode(chunk));
+    }
+    assertThat(rangeData.toString()).isEqualTo("world,this is a test string for vectored");
+  }
+
+  @Test
+  void close_vectoredReadInFlight_completesRangesExceptionallyAndReleasesBuffer()
+      throws Exception {
+    CountDownLatch readStarted = new CountDownLatch(1);
+    CountDownLatch bufferReleased = new CountDownLatch(1);
+    GcsReadChannel gcsReadChannel = createChannelWithBlockingReads(readStarted);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5, 6L, 5));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate, buffer -> bufferReleased.countDown());
+    assertThat(readStarted.await(10, TimeUnit.SECONDS)).isTrue();
+    gcsReadChannel.close();
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> ranges.get(0).getByteBufferFuture().get());
+    assertThat(exception).hasCauseThat().hasCauseThat().isInstanceOf(ClosedChannelException.class);
+    assertThrows(ExecutionException.class, () -> ranges.get(1).getByteBufferFuture().get());
+    assertThat(bufferReleased.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void readVectored_allRangesCancelled_abortsReadAndReleasesBuffer() throws Exception {
+    CountDownLatch readStarted = new CountDownLatch(1);
+    CountDownLatch bufferReleased = new CountDownLatch(1);
+    GcsReadChannel gcsReadChannel = createChannelWithBlockingReads(readStarted);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5, 6L, 5));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate, buffer -> bufferReleased.countDown());
+    assertThat(readStarted.await(10, TimeUnit.SECONDS)).isTrue();
+    ranges.get(0).getByteBufferFuture().cancel(true);
+    ranges.get(1).getByteBufferFuture().cancel(true);
+
+    assertThat(bufferReleased.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void readVectored_splitRangeCancelledWhileReading_interruptsPartsAndReleasesBuffer()
+      throws Exception {
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder().setSplitSize(4).build();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder().setGcsVectoredReadOptions(vectoredReadOptions).build();
+    CountDownLatch readStarted = new CountDownLatch(1);
+    CountDownLatch bufferReleased = new CountDownLatch(1);
+    GcsReadChannel gcsReadChannel = createChannelWithBlockingReads(readStarted, readOptions);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 10));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate, buffer -> bufferReleased.countDown());
+    assertThat(readStarted.await(10, TimeUnit.SECONDS)).isTrue();
+    ranges.get(0).getByteBufferFuture().cancel(true);
+
+    // The parts block for a minute unless they are interrupted.
+    assertThat(bufferReleased.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void readVectored_allocationError_completesFuturesExceptionally() throws IOException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, TEST_GCS_READ_OPTIONS, executorServiceSupplier);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5));
+    IntFunction<ByteBuffer> badAllocator =
+        size -> {
+          throw new RuntimeException("Allocation failed");
+        };
+
+    gcsReadChannel.readVectored(ranges, badAllocator);
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> ranges.get(0).getByteBufferFuture().get());
+    assertThat(e).hasCauseThat().isInstanceOf(IOException.class);
+    assertThat(e).hasCauseThat().hasMessageThat().contains("Error while populating childRange");
+    assertThat(e.getCause().getCause()).isInstanceOf(RuntimeException.class);
+    assertThat(e.getCause().getCause()).hasMessageThat().isEqualTo("Allocation failed");
+  }
+
+  @Test
+  void readVectored_combinedRange_partialFirstRead_readsFully() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "abcdefghijklmnopqrstuvwxyz";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+
+    Storage mockStorage = Mockito.mock(Storage.class);
+    ReadChannel mockReadChannel = Mockito.mock(ReadChannel.class);
+    Mockito.when(
+            mockStorage.reader(
+                Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
+        .thenReturn(mockReadChannel);
+    Mockito.when(mockReadChannel.isOpen()).thenReturn(true);
+
+    byte[] dataBytes = objectData.getBytes(StandardCharsets.UTF_8);
+    var ref =
+        new Object() {
+          int callCount = 0;
+        };
+
+    Mockito.when(mockReadChannel.read(Mockito.any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              ByteBuffer buffer = invocation.getArgument(0);
+              if (ref.callCount == 0) {
+                // Return 1 byte on the first call
+                buffer.put(dataBytes, 0, 1);
+                ref.callCount++;
+                return 1;
+              } else {
+                // Return the rest on the second call
+                int remaining = buffer.remaining();
+                buffer.put(dataBytes, 1, remaining);
+                return remaining;
+              }
+            });
+
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(mockStorage, itemInfo, TEST_GCS_READ_OPTIONS, executorServiceSupplier);
+    GcsObjectRange range1 = createRange(0, 10);
+    ImmutableList<GcsObjectRange> ranges = ImmutableList.of(range1);
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(getGcsObjectRangeData(range1)).isEqualTo("abcdefghij");
   }
 
   private GcsObjectRange createRange(long offset, int length) {
@@ -576,6 +1201,613 @@ class GcsReadChannelTest {
         .collect(ImmutableList.toImmutableList());
   }
 
+  private GcsReadChannel createChannelWithAccessPolicy(
+      ReadChannel mockReadChannel, GcsReadOptions.AccessPolicy accessPolicy) throws IOException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder().setItemId(itemId).setSize(100).setContentGeneration(0L).build();
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder()
+            .setAccessPolicy(accessPolicy)
+            .setRandomAccessMinRequestSize(16)
+            .setAdaptiveRandomSeekThreshold(2)
+            .setAdaptiveForwardSeekDistance(32)
+            .setSeekDrainThreshold(32)
+            .build();
+    Storage mockStorage = Mockito.mock(Storage.class);
+    Mockito.when(
+            mockStorage.reader(
+                Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
+        .thenReturn(mockReadChannel);
+    return new GcsReadChannel(mockStorage, itemInfo, readOptions, executorServiceSupplier);
+  }
+
+  /** Returns a channel whose vectored reads block until they are interrupted. */
+  private GcsReadChannel createChannelWithBlockingReads(CountDownLatch readStarted)
+      throws IOException {
+    return createChannelWithBlockingReads(readStarted, TEST_GCS_READ_OPTIONS);
+  }
+
+  private GcsReadChannel createChannelWithBlockingReads(
+      CountDownLatch readStarted, GcsReadOptions readOptions) throws IOException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder().setItemId(itemId).setSize(100).setContentGeneration(0L).build();
+    ReadChannel blockingReadChannel = mockReadChannel();
+    Mockito.when(blockingReadChannel.read(Mockito.any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              readStarted.countDown();
+              try {
+                Thread.sleep(60_000);
+              } catch (InterruptedException e) {
+                throw new InterruptedIOException("read interrupted");
+              }
+              return -1;
+            });
+    Storage mockStorage = Mockito.mock(Storage.class);
+    Mockito.when(
+            mockStorage.reader(
+                Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
+        .thenReturn(blockingReadChannel);
+    return new GcsReadChannel(mockStorage, itemInfo, readOptions, executorServiceSupplier);
+  }
+
+  @Test
+  void readVectored_withConcurrencyLimiter_releasesEveryPermit() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world,this is a test string for vectored read.";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder().setItemId(itemId).setSize(objectData.length()).build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get()), objectData);
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder().setMaxMergeGap(1).setMaxMergeSize(1).build();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder().setGcsVectoredReadOptions(vectoredReadOptions).build();
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(1);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            storage,
+            itemInfo,
+            readOptions,
+            executorServiceSupplier,
+            Optional.of(limiter),
+            new GcsLatencyTracker(),
+            new GcsMergeGapTuner(),
+            Optional.empty());
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5, 12L, 4, 22L, 11));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(getGcsObjectRangeData(ranges.get(0))).isEqualTo("hello");
+    assertThat(getGcsObjectRangeData(ranges.get(1))).isEqualTo("this");
+    assertThat(getGcsObjectRangeData(ranges.get(2))).isEqualTo("test string");
+    assertThat(limiter.getInFlight("test-bucket")).isEqualTo(0);
+  }
+
+  @Test
+  void readVectored_throttledWithConcurrencyLimiter_lowersLimit() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    GcsItemInfo itemInfo = GcsItemInfo.builder().setItemId(itemId).setSize(100).build();
+    Storage mockStorage = Mockito.mock(Storage.class);
+    ReadChannel mockReadChannel = mockReadChannel();
+    Mockito.when(mockReadChannel.read(Mockito.any(ByteBuffer.class)))
+        .thenThrow(new StorageException(429, "Too many requests"));
+    Mockito.when(
+            mockStorage.reader(
+                Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
+        .thenReturn(mockReadChannel);
+    GcsConcurrencyLimiter limiter = new GcsConcurrencyLimiter(256);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            mockStorage,
+            itemInfo,
+            TEST_GCS_READ_OPTIONS,
+            executorServiceSupplier,
+            Optional.of(limiter),
+            new GcsLatencyTracker(),
+            new GcsMergeGapTuner(),
+            Optional.empty());
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 10));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThrows(ExecutionException.class, () -> ranges.get(0).getByteBufferFuture().get());
+    assertThat(limiter.getLimit("test-bucket")).isEqualTo(GcsConcurrencyLimiter.INITIAL_LIMIT / 2);
+    assertThat(limiter.getInFlight("test-bucket")).isEqualTo(0);
+  }
+
+  @Test
+  void readVectored_hedgeEnabledAndFirstRequestSlow_completesFromHedgeRequest() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    GcsItemInfo itemInfo = GcsItemInfo.builder().setItemId(itemId).setSize(100).build();
+    CountDownLatch slowReadInterrupted = new CountDownLatch(1);
+    ReadChannel slowReadChannel = mockReadChannel();
+    Mockito.when(slowReadChannel.read(Mockito.any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              try {
+                new CountDownLatch(1).await();
+              } catch (InterruptedException e) {
+                slowReadInterrupted.countDown();
+              }
+              throw new InterruptedIOException();
+            });
+    ReadChannel streamReadChannel = mockReadChannel();
+    ReadChannel hedgeReadChannel = mockReadChannelFillingBuffers();
+    Storage mockStorage = Mockito.mock(Storage.class);
+    Mockito.when(
+            mockStorage.reader(
+                Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
+        .thenReturn(streamReadChannel, slowReadChannel, hedgeReadChannel);
+    GcsLatencyTracker firstByteLatencies = new GcsLatencyTracker();
+    for (int i = 0; i < GcsLatencyTracker.MIN_SAMPLES; i++) {
+      firstByteLatencies.record(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder().setHedgeEnabled(true).setHedgeMinDelayMs(1).build();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder().setGcsVectoredReadOptions(vectoredReadOptions).build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            mockStorage,
+            itemInfo,
+            readOptions,
+            executorServiceSupplier,
+            Optional.empty(),
+            firstByteLatencies,
+            new GcsMergeGapTuner(),
+            Optional.of(hedgeTimer));
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 10));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(ranges.get(0).getByteBufferFuture().get(5, TimeUnit.SECONDS).remaining())
+        .isEqualTo(10);
+    assertThat(slowReadInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    Mockito.verify(mockStorage, Mockito.times(3))
+        .reader(Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class));
+  }
+
+  @Test
+  void readVectored_hedgeDisabled_recordsFirstByteLatency() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder().setItemId(itemId).setSize(objectData.length()).build();
+    BlobId blobId = BlobId.of(itemId.getBucketName(), itemId.getObjectName().get());
+    createBlobInStorage(blobId, objectData);
+    GcsLatencyTracker firstByteLatencies = new GcsLatencyTracker();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            storage,
+            itemInfo,
+            TEST_GCS_READ_OPTIONS,
+            executorServiceSupplier,
+            Optional.empty(),
+            firstByteLatencies,
+            new GcsMergeGapTuner(),
+            Optional.of(hedgeTimer));
+
+    for (int i = 0; i < GcsLatencyTracker.MIN_SAMPLES; i++) {
+      ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5));
+      gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+      assertThat(getGcsObjectRangeData(ranges.get(0))).isEqualTo("hello");
+    }
+
+    assertThat(firstByteLatencies.getPercentile(50).isPresent()).isTrue();
+  }
+
+  @Test
+  void readVectored_hedgeEnabledWithoutLatencyHistory_sendsSingleRequest() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder().setItemId(itemId).setSize(objectData.length()).build();
+    BlobId blobId = BlobId.of(itemId.getBucketName(), itemId.getObjectName().get());
+    createBlobInStorage(blobId, objectData);
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder().setHedgeEnabled(true).setHedgeMinDelayMs(1).build();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder().setGcsVectoredReadOptions(vectoredReadOptions).build();
+    GcsLatencyTracker firstByteLatencies = new GcsLatencyTracker();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            storage,
+            itemInfo,
+            readOptions,
+            executorServiceSupplier,
+            Optional.empty(),
+            firstByteLatencies,
+            new GcsMergeGapTuner(),
+            Optional.of(hedgeTimer));
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(getGcsObjectRangeData(ranges.get(0))).isEqualTo("hello");
+    Mockito.verify(storage, Mockito.times(2))
+        .reader(Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class));
+    assertThat(firstByteLatencies.getPercentile(50).isPresent()).isFalse();
+  }
+
+  @Test
+  void readVectored_resumeEnabledAndReadFailsMidRange_resumesFromLastByteRead() throws Exception {
+    ReadChannel failingReadChannel = mockReadChannelFailingAfter(4, new IOException("reset"));
+    ReadChannel resumedReadChannel = mockReadChannelFillingBuffers();
+    GcsReadChannel gcsReadChannel =
+        createChannelReadingFrom(
+            createResumeOptions(/* maxRetries= */ 2), failingReadChannel, resumedReadChannel);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(10L, 10));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(ranges.get(0).getByteBufferFuture().get(5, TimeUnit.SECONDS).remaining())
+        .isEqualTo(10);
+    Mockito.verify(failingReadChannel).seek(10L);
+    Mockito.verify(resumedReadChannel).seek(14L);
+    Mockito.verify(resumedReadChannel).limit(20L);
+  }
+
+  @Test
+  void readVectored_resumeEnabledAndResponseEndsEarly_resumesFromLastByteRead() throws Exception {
+    ReadChannel truncatedReadChannel = mockReadChannelFailingAfter(4, /* failure= */ null);
+    ReadChannel resumedReadChannel = mockReadChannelFillingBuffers();
+    GcsReadChannel gcsReadChannel =
+        createChannelReadingFrom(
+            createResumeOptions(/* maxRetries= */ 1), truncatedReadChannel, resumedReadChannel);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 10));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(ranges.get(0).getByteBufferFuture().get(5, TimeUnit.SECONDS).remaining())
+        .isEqualTo(10);
+    Mockito.verify(resumedReadChannel).seek(4L);
+  }
+
+  @Test
+  void readVectored_resumeEnabledAndSizeResolvedLazily_resumesWhenResponseEndsEarly()
+      throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    ReadChannel truncatedReadChannel = mockReadChannelFailingAfter(4, /* failure= */ null);
+    ReadChannel resumedReadChannel = mockReadChannelFillingBuffers();
+    ReadChannel streamReadChannel = mockReadChannel();
+    Storage mockStorage = Mockito.mock(Storage.class);
+    Mockito.when(
+            mockStorage.reader(
+                Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
+        .thenReturn(streamReadChannel, truncatedReadChannel, resumedReadChannel);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            mockStorage,
+            itemId,
+            createResumeOptions(/* maxRetries= */ 1),
+            executorServiceSupplier) {
+          @Override
+          public long size() {
+            return 100;
+          }
+        };
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 10));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(ranges.get(0).getByteBufferFuture().get(5, TimeUnit.SECONDS).remaining())
+        .isEqualTo(10);
+    Mockito.verify(resumedReadChannel).seek(4L);
+  }
+
+  @Test
+  void readVectored_hedgeAndResumeEnabledAndReadFailsMidRange_resumesFromLastByteRead()
+      throws Exception {
+    ReadChannel failingReadChannel = mockReadChannelFailingAfter(4, new IOException("reset"));
+    ReadChannel resumedReadChannel = mockReadChannelFillingBuffers();
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder()
+            .setHedgeEnabled(true)
+            .setResumeMaxRetries(2)
+            .setResumeInitialBackoffMs(1)
+            .build();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder().setGcsVectoredReadOptions(vectoredReadOptions).build();
+    GcsReadChannel gcsReadChannel =
+        createChannelReadingFrom(readOptions, failingReadChannel, resumedReadChannel);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(10L, 10));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(ranges.get(0).getByteBufferFuture().get(5, TimeUnit.SECONDS).remaining())
+        .isEqualTo(10);
+    Mockito.verify(resumedReadChannel).seek(14L);
+  }
+
+  @Test
+  void readVectored_resumeDisabledAndReadFailsMidRange_failsRange() throws Exception {
+    ReadChannel failingReadChannel = mockReadChannelFailingAfter(4, new IOException("reset"));
+    ReadChannel unusedReadChannel = mockReadChannelFillingBuffers();
+    GcsReadChannel gcsReadChannel =
+        createChannelReadingFrom(
+            createResumeOptions(/* maxRetries= */ 0), failingReadChannel, unusedReadChannel);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 10));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> ranges.get(0).getByteBufferFuture().get());
+    assertThat(e.getCause()).hasCauseThat().hasMessageThat().isEqualTo("reset");
+    Mockito.verifyNoInteractions(unusedReadChannel);
+  }
+
+  @Test
+  void readVectored_resumeEnabledAndPermanentFailure_failsRangeWithoutResuming()
+      throws Exception {
+    ReadChannel failingReadChannel =
+        mockReadChannelFailingAfter(4, new StorageException(404, "Not found"));
+    ReadChannel unusedReadChannel = mockReadChannelFillingBuffers();
+    GcsReadChannel gcsReadChannel =
+        createChannelReadingFrom(
+            createResumeOptions(/* maxRetries= */ 2), failingReadChannel, unusedReadChannel);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 10));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> ranges.get(0).getByteBufferFuture().get());
+    assertThat(e.getCause()).hasCauseThat().isInstanceOf(StorageException.class);
+    Mockito.verifyNoInteractions(unusedReadChannel);
+  }
+
+  @Test
+  void readVectored_mergedRanges_completesEachRangeOnceItsBytesAreRead() throws Exception {
+    CountDownLatch releaseSecondRead = new CountDownLatch(1);
+    ReadChannel blockingReadChannel = mockReadChannel();
+    Mockito.when(blockingReadChannel.read(Mockito.any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              ByteBuffer buffer = invocation.getArgument(0);
+              buffer.position(buffer.position() + 10);
+              return 10;
+            })
+        .thenAnswer(
+            invocation -> {
+              releaseSecondRead.await();
+              ByteBuffer buffer = invocation.getArgument(0);
+              int remaining = buffer.remaining();
+              buffer.position(buffer.limit());
+              return remaining;
+            });
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder()
+            .setGcsVectoredReadOptions(GcsVectoredReadOptions.builder().setMaxMergeGap(10).build())
+            .build();
+    GcsReadChannel gcsReadChannel =
+        createChannelReadingFrom(readOptions, blockingReadChannel, mockReadChannel());
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 10, 15L, 10));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(ranges.get(0).getByteBufferFuture().get(5, TimeUnit.SECONDS).remaining())
+        .isEqualTo(10);
+    assertThat(ranges.get(1).getByteBufferFuture().isDone()).isFalse();
+    releaseSecondRead.countDown();
+    assertThat(ranges.get(1).getByteBufferFuture().get(5, TimeUnit.SECONDS).remaining())
+        .isEqualTo(10);
+    Mockito.verify(blockingReadChannel).seek(0L);
+    Mockito.verify(blockingReadChannel).limit(25L);
+  }
+
+  @Test
+  void readVectored_rangeNestedInEarlierRange_completesNestedRangeFirst() throws Exception {
+    CountDownLatch releaseSecondRead = new CountDownLatch(1);
+    ReadChannel blockingReadChannel = mockReadChannel();
+    Mockito.when(blockingReadChannel.read(Mockito.any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              ByteBuffer buffer = invocation.getArgument(0);
+              buffer.position(buffer.position() + 10);
+              return 10;
+            })
+        .thenAnswer(
+            invocation -> {
+              releaseSecondRead.await();
+              ByteBuffer buffer = invocation.getArgument(0);
+              int remaining = buffer.remaining();
+              buffer.position(buffer.limit());
+              return remaining;
+            });
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder()
+            .setGcsVectoredReadOptions(GcsVectoredReadOptions.builder().setMaxMergeGap(10).build())
+            .build();
+    GcsReadChannel gcsReadChannel =
+        createChannelReadingFrom(readOptions, blockingReadChannel, mockReadChannel());
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 20, 2L, 5));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(ranges.get(1).getByteBufferFuture().get(5, TimeUnit.SECONDS).remaining())
+        .isEqualTo(5);
+    assertThat(ranges.get(0).getByteBufferFuture().isDone()).isFalse();
+    releaseSecondRead.countDown();
+    assertThat(ranges.get(0).getByteBufferFuture().get(5, TimeUnit.SECONDS).remaining())
+        .isEqualTo(20);
+  }
+
+  @Test
+  void readVectored_mergeGapAutoTuneEnabled_mergesRangesWithinTunedGap() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world,this is a test string for vectored read.";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder().setItemId(itemId).setSize(objectData.length()).build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get()), objectData);
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder()
+            .setMaxMergeGap(1)
+            .setMergeGapAutoTuneEnabled(true)
+            .setAutoTuneMinMergeGap(1)
+            .setAutoTuneMaxMergeGap(64)
+            .build();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder().setGcsVectoredReadOptions(vectoredReadOptions).build();
+    GcsMergeGapTuner mergeGapTuner = new GcsMergeGapTuner();
+    for (int i = 0; i < GcsLatencyTracker.MIN_SAMPLES; i++) {
+      mergeGapTuner.record(
+          TimeUnit.MILLISECONDS.toNanos(10), 1024 * 1024, TimeUnit.MILLISECONDS.toNanos(20));
+    }
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            storage,
+            itemInfo,
+            readOptions,
+            executorServiceSupplier,
+            Optional.empty(),
+            new GcsLatencyTracker(),
+            mergeGapTuner,
+            Optional.empty());
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5, 22L, 11));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(getGcsObjectRangeData(ranges.get(0))).isEqualTo("hello");
+    assertThat(getGcsObjectRangeData(ranges.get(1))).isEqualTo("test string");
+    // One request for the channel and a single one for both ranges.
+    Mockito.verify(storage, Mockito.times(2))
+        .reader(Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class));
+  }
+
+  @Test
+  void readVectored_mergeGapAutoTuneEnabledAndNoBytesRead_recordsNoSample() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder().setItemId(itemId).setSize(objectData.length()).build();
+    createBlobInStorage(
+        BlobId.of(itemId.getBucketName(), itemId.getObjectName().get()), objectData);
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.builder()
+            .setGcsVectoredReadOptions(
+                GcsVectoredReadOptions.builder().setMergeGapAutoTuneEnabled(true).build())
+            .build();
+    GcsLatencyTracker firstByteLatencies = Mockito.spy(new GcsLatencyTracker());
+    GcsMergeGapTuner mergeGapTuner = Mockito.spy(new GcsMergeGapTuner());
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            storage,
+            itemInfo,
+            readOptions,
+            executorServiceSupplier,
+            Optional.empty(),
+            firstByteLatencies,
+            mergeGapTuner,
+            Optional.empty());
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(4L, 0));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(ranges.get(0).getByteBufferFuture().get().remaining()).isEqualTo(0);
+    Mockito.verify(mergeGapTuner, Mockito.never())
+        .record(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyLong());
+    Mockito.verify(firstByteLatencies, Mockito.never()).record(Mockito.anyLong());
+  }
+
+  private static GcsReadOptions createResumeOptions(int maxRetries) {
+    return TEST_GCS_READ_OPTIONS.builder()
+        .setGcsVectoredReadOptions(
+            GcsVectoredReadOptions.builder()
+                .setResumeMaxRetries(maxRetries)
+                .setResumeInitialBackoffMs(1)
+                .build())
+        .build();
+  }
+
+  /** Returns a channel over a 100 byte object whose range reads use the given channels in order. */
+  private GcsReadChannel createChannelReadingFrom(
+      GcsReadOptions readOptions, ReadChannel firstReadChannel, ReadChannel secondReadChannel)
+      throws IOException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    GcsItemInfo itemInfo = GcsItemInfo.builder().setItemId(itemId).setSize(100).build();
+    ReadChannel streamReadChannel = mockReadChannel();
+    Storage mockStorage = Mockito.mock(Storage.class);
+    Mockito.when(
+            mockStorage.reader(
+                Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
+        .thenReturn(streamReadChannel, firstReadChannel, secondReadChannel);
+    return new GcsReadChannel(
+        mockStorage,
+        itemInfo,
+        readOptions,
+        executorServiceSupplier,
+        Optional.empty(),
+        new GcsLatencyTracker(),
+        new GcsMergeGapTuner(),
+        Optional.of(hedgeTimer));
+  }
+
+  /**
+   * Returns a channel that reads {@code bytes} bytes, then throws {@code failure}, or reports the
+   * end of the response if it is null.
+   */
+  private static ReadChannel mockReadChannelFailingAfter(int bytes, Exception failure)
+      throws IOException {
+    ReadChannel mockReadChannel = mockReadChannel();
+    Mockito.when(mockReadChannel.read(Mockito.any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              ByteBuffer buffer = invocation.getArgument(0);
+              buffer.position(buffer.position() + bytes);
+              return bytes;
+            })
+        .thenAnswer(
+            invocation -> {
+              if (failure != null) {
+                throw failure;
+              }
+              return -1;
+            });
+    return mockReadChannel;
+  }
+
+  private static ReadChannel mockReadChannel() {
+    ReadChannel mockReadChannel = Mockito.mock(ReadChannel.class);
+    Mockito.when(mockReadChannel.isOpen()).thenReturn(true);
+    return mockReadChannel;
+  }
+
+  private static ReadChannel mockReadChannelFillingBuffers() throws IOException {
+    ReadChannel mockReadChannel = mockReadChannel();
+    Mockito.when(mockReadChannel.read(Mockito.any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              ByteBuffer buffer = invocation.getArgument(0);
+              int bytesRead = buffer.remaining();
+              buffer.position(buffer.limit());
+              return bytesRead;
+            });
+    return mockReadChannel;
+  }
+
+  private static GcsReadOptions createReadaheadOptions(int minSize, int maxSize) {
+    return GcsReadOptions.builder()
+        .setUserProjectId(TEST_PROJECT_ID)
+        .setReadaheadEnabled(true)
+        .setReadaheadMinSize(minSize)
+        .setReadaheadMaxSize(maxSize)
+        .build();
+  }
+
   private void createBlobInStorage(BlobId blobId, String blobContent) {
     BlobInfo blobInfo = BlobInfo.newBuilder(blobId).build();
     storage.create(blobInfo, blobContent.getBytes(StandardCharsets.UTF_8));
@@ -38,9 +38,21 @@ class GcsReadOptionsTest {
             .put("gcs.analytics-core.read.vectored.range.merge-gap.max-bytes", "1024")
             .put("gcs.analytics-core.read.vectored.range.merged-size.max-bytes", "2048")
             .put("gcs.analytics-core.footer.prefetch.enabled", "false")
+            .put("gcs.analytics-core.footer.prefetch.async.enabled", "true")
             .put("gcs.analytics-core.large-file.footer.prefetch.size-bytes", "4194304")
             .put("gcs.analytics-core.small-file.footer.prefetch.size-bytes", "41943")
             .put("gcs.analytics-core.small-file.cache.threshold-bytes", "102400")
+            .put("gcs.analytics-core.read.positional.channel-pool.size", "8")
+            .put("gcs.analytics-core.read.readahead.enabled", "true")
+            .put("gcs.analytics-core.read.readahead.min-size-bytes", "524288")
+            .put("gcs.analytics-core.read.readahead.max-size-bytes", "16777216")
+            .put("gcs.analytics-core.read.access-policy", "ADAPTIVE")
+            .put("gcs.analytics-core.read.random.min-request-size-bytes", "131072")
+            .put("gcs.analytics-core.read.adaptive.random-seek.threshold", "3")
+            .put("gcs.analytics-core.read.adaptive.forward-seek.distance-bytes", "4194304")
+            .put("gcs.analytics-core.read.seek.drain-threshold-bytes", "262144")
+            .put("gcs.analytics-core.read.direct-buffers.enabled", "true")
+            .put("gcs.analytics-core.read.cached-range-views.enabled", "true")
             .build();
     String prefix = "gcs.";
 
@@ -51,9 +63,21 @@ class GcsReadOptionsTest {
     assertThat(readOptions.getDecryptionKey()).isEqualTo(Optional.of("test-key"));
     assertThat(readOptions.getUserProjectId()).isEqualTo(Optional.of("test-project"));
     assertThat(readOptions.isFooterPrefetchEnabled()).isEqualTo(false);
+    assertThat(readOptions.isFooterPrefetchAsyncEnabled()).isTrue();
     assertThat(readOptions.getFooterPrefetchSizeSmallFile()).isEqualTo(41943);
     assertThat(readOptions.getFooterPrefetchSizeLargeFile()).isEqualTo(4194304);
     assertThat(readOptions.getSmallObjectCacheSize()).isEqualTo(102400);
+    assertThat(readOptions.getPositionalReadChannelPoolSize()).isEqualTo(8);
+    assertThat(readOptions.isReadaheadEnabled()).isEqualTo(true);
+    assertThat(readOptions.getReadaheadMinSize()).isEqualTo(512 * 1024);
+    assertThat(readOptions.getReadaheadMaxSize()).isEqualTo(16 * 1024 * 1024);
+    assertThat(readOptions.getAccessPolicy()).isEqualTo(GcsReadOptions.AccessPolicy.ADAPTIVE);
+    assertThat(readOptions.getRandomAccessMinRequestSize()).isEqualTo(128 * 1024);
+    assertThat(readOptions.getAdaptiveRandomSeekThreshold()).isEqualTo(3);
+    assertThat(readOptions.getAdaptiveForwardSeekDistance()).isEqualTo(4 * 1024 * 1024L);
+    assertThat(readOptions.getSeekDrainThreshold()).isEqualTo(256 * 1024);
+    assertThat(readOptions.isDirectBuffersEnabled()).isTrue();
+    assertThat(readOptions.isCachedRangeViewsEnabled()).isTrue();
     assertThat(vectoredReadOptions.getMaxMergeGap()).isEqualTo(1024);
     assertThat(vectoredReadOptions.getMaxMergeSize()).isEqualTo(2048);
   }
@@ -70,19 +94,45 @@ class GcsReadOptionsTest {
     assertThat(readOptions.getDecryptionKey()).isEqualTo(Optional.empty());
     assertThat(readOptions.getUserProjectId()).isEqualTo(Optional.empty());
     assertThat(readOptions.isFooterPrefetchEnabled()).isEqualTo(true);
+    assertThat(readOptions.isFooterPrefetchAsyncEnabled()).isFalse();
     assertThat(readOptions.getFooterPrefetchSizeSmallFile()).isEqualTo(100 * 1024);
     assertThat(readOptions.getFooterPrefetchSizeLargeFile()).isEqualTo(1024 * 1024);
     assertThat(readOptions.getSmallObjectCacheSize()).isEqualTo(0);
+    assertThat(readOptions.getPositionalReadChannelPoolSize()).isEqualTo(0);
+    assertThat(readOptions.isReadaheadEnabled()).isEqualTo(false);
+    assertThat(readOptions.getReadaheadMinSize()).isEqualTo(1024 * 1024);
+    assertThat(readOptions.getReadaheadMaxSize()).isEqualTo(8 * 1024 * 1024);
+    assertThat(readOptions.getAccessPolicy()).isEqualTo(GcsReadOptions.AccessPolicy.SEQUENTIAL);
+    assertThat(readOptions.getRandomAccessMinRequestSize()).isEqualTo(64 * 1024);
+    assertThat(readOptions.getAdaptiveRandomSeekThreshold()).isEqualTo(2);
+    assertThat(readOptions.getAdaptiveForwardSeekDistance()).isEqualTo(1024 * 1024L);
+    assertThat(readOptions.getSeekDrainThreshold()).isEqualTo(1024 * 1024);
+    assertThat(readOptions.isDirectBuffersEnabled()).isFalse();
+    assertThat(readOptions.isCachedRangeViewsEnabled()).isFalse();
     assertThat(vectoredReadOptions.getMaxMergeGap()).isEqualTo(4 * 1024);
     assertThat(vectoredReadOptions.getMaxMergeSize()).isEqualTo(8 * 1024 * 1024);
   }
 
+  @Test
+  void build_readaheadMinSizeGreaterThanMaxSize_throwsIllegalArgumentException() {
+    GcsReadOptions.Builder builder =
+        GcsReadOptions.builder().setReadaheadMinSize(2 * 1024 * 1024).setReadaheadMaxSize(1024);
+
+    assertThrows(IllegalArgumentException.class, builder::build);
+  }
+
   @ParameterizedTest
   @ValueSource(
       strings = {
         "gcs.analytics-core.small-file.footer.prefetch.size-bytes",
         "gcs.analytics-core.small-file.cache.threshold-bytes",
         "gcs.analytics-core.large-file.footer.prefetch.size-bytes",
+        "gcs.analytics-core.read.positional.channel-pool.size",
+        "gcs.analytics-core.read.readahead.min-size-bytes",
+        "gcs.analytics-core.read.readahead.max-size-bytes",
+        "gcs.analytics-core.read.random.min-request-size-bytes",
+        "gcs.analytics-core.read.adaptive.random-seek.threshold",
+        "gcs.analytics-core.read.seek.drain-threshold-bytes",
       })
   void createFromOptions_integerValuesGreaterThanIntegerMax_throwsIllegalArgumentException(
       String propertyKey) {
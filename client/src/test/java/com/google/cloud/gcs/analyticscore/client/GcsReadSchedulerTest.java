@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.cloud.gcs.analyticscore.client.GcsReadScheduler.Priority;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class GcsReadSchedulerTest {
+
+  private GcsReadScheduler scheduler;
+
+  @AfterEach
+  void tearDown() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  @Test
+  void forReadSize_smallRead_isNormalPriority() {
+    assertThat(Priority.forReadSize(GcsReadScheduler.SMALL_READ_SIZE)).isEqualTo(Priority.NORMAL);
+    assertThat(Priority.forReadSize(GcsReadScheduler.SMALL_READ_SIZE + 1L))
+        .isEqualTo(Priority.LOW);
+  }
+
+  @Test
+  void submit_queuedTasks_runInPriorityOrder() throws Exception {
+    scheduler = new GcsReadScheduler(1, 0, Executors.defaultThreadFactory());
+    CountDownLatch blocker = blockSingleThread(scheduler);
+    List<String> order = new CopyOnWriteArrayList<>();
+
+    var unusedLow =
+        scheduler.submit(GcsReadScheduler.prioritized(Priority.LOW, 0, () -> order.add("low")));
+    var unusedNormal =
+        scheduler.submit(
+            GcsReadScheduler.prioritized(Priority.NORMAL, 0, () -> order.add("normal")));
+    Future<?> last =
+        scheduler.submit(GcsReadScheduler.prioritized(Priority.HIGH, 0, () -> order.add("high")));
+    blocker.countDown();
+    awaitIdle(scheduler);
+
+    assertThat(last.isDone()).isTrue();
+    assertThat(order).containsExactly("high", "normal", "low").inOrder();
+  }
+
+  @Test
+  void submit_samePriority_interleavesChannels() throws Exception {
+    scheduler = new GcsReadScheduler(1, 0, Executors.defaultThreadFactory());
+    CountDownLatch blocker = blockSingleThread(scheduler);
+    List<String> order = new CopyOnWriteArrayList<>();
+
+    for (int i = 0; i < 3; i++) {
+      String name = "a" + i;
+      var unused =
+          scheduler.submit(GcsReadScheduler.prioritized(Priority.LOW, i, () -> order.add(name)));
+    }
+    var unusedB0 =
+        scheduler.submit(GcsReadScheduler.prioritized(Priority.LOW, 0, () -> order.add("b0")));
+    blocker.countDown();
+    awaitIdle(scheduler);
+
+    assertThat(order).containsExactly("a0", "b0", "a1", "a2").inOrder();
+  }
+
+  @Test
+  void submit_unprioritizedTask_runsAsNormalPriority() throws Exception {
+    scheduler = new GcsReadScheduler(1, 0, Executors.defaultThreadFactory());
+    CountDownLatch blocker = blockSingleThread(scheduler);
+    List<String> order = new CopyOnWriteArrayList<>();
+
+    var unused =
+        scheduler.submit(GcsReadScheduler.prioritized(Priority.LOW, 0, () -> order.add("low")));
+    scheduler.execute(() -> order.add("plain"));
+    blocker.countDown();
+    awaitIdle(scheduler);
+
+    assertThat(order).containsExactly("plain", "low").inOrder();
+  }
+
+  @Test
+  void submit_boundedQueueFull_runsTaskOnCallerThread() throws Exception {
+    scheduler = new GcsReadScheduler(1, 1, Executors.defaultThreadFactory());
+    CountDownLatch blocker = blockSingleThread(scheduler);
+    var unused = scheduler.submit(() -> {});
+    AtomicReference<Thread> runner = new AtomicReference<>();
+
+    Future<?> future = scheduler.submit(() -> runner.set(Thread.currentThread()));
+
+    assertThat(future.isDone()).isTrue();
+    assertThat(runner.get()).isSameInstanceAs(Thread.currentThread());
+    blocker.countDown();
+  }
+
+  @Test
+  void submit_discardableTaskWithBoundedQueueFull_throwsRejectedExecutionException()
+      throws Exception {
+    scheduler = new GcsReadScheduler(1, 1, Executors.defaultThreadFactory());
+    CountDownLatch blocker = blockSingleThread(scheduler);
+    var unused = scheduler.submit(() -> {});
+    AtomicReference<Thread> runner = new AtomicReference<>();
+
+    assertThrows(
+        RejectedExecutionException.class,
+        () ->
+            scheduler.submit(
+                GcsReadScheduler.discardable(
+                    Priority.NORMAL, 0, () -> runner.set(Thread.currentThread()))));
+    assertThat(runner.get()).isNull();
+    blocker.countDown();
+  }
+
+  @Test
+  void execute_taskThrows_reportsFailureToUncaughtExceptionHandler() throws Exception {
+    AtomicReference<Throwable> uncaught = new AtomicReference<>();
+    CountDownLatch reported = new CountDownLatch(1);
+    ThreadFactory threadFactory =
+        task -> {
+          Thread thread = Executors.defaultThreadFactory().newThread(task);
+          thread.setUncaughtExceptionHandler(
+              (t, e) -> {
+                uncaught.set(e);
+                reported.countDown();
+              });
+          return thread;
+        };
+    scheduler = new GcsReadScheduler(1, 0, threadFactory);
+    IllegalStateException failure = new IllegalStateException("read failed");
+    Runnable failingTask =
+        () -> {
+          throw failure;
+        };
+
+    scheduler.execute(GcsReadScheduler.prioritized(Priority.LOW, 0, failingTask));
+
+    assertThat(reported.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(uncaught.get()).isSameInstanceAs(failure);
+  }
+
+  @Test
+  void execute_boundedQueueFullAndTaskThrows_throwsToCaller() throws Exception {
+    scheduler = new GcsReadScheduler(1, 1, Executors.defaultThreadFactory());
+    CountDownLatch blocker = blockSingleThread(scheduler);
+    scheduler.execute(() -> {});
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            scheduler.execute(
+                () -> {
+                  throw new IllegalStateException("read failed");
+                }));
+    blocker.countDown();
+  }
+
+  @Test
+  void submit_afterShutdown_throwsRejectedExecutionException() {
+    scheduler = new GcsReadScheduler(1, 1, Executors.defaultThreadFactory());
+    scheduler.shutdown();
+
+    assertThrows(RejectedExecutionException.class, () -> scheduler.submit(() -> {}));
+  }
+
+  /** Occupies the only thread of the scheduler until the returned latch is counted down. */
+  private static CountDownLatch blockSingleThread(GcsReadScheduler scheduler)
+      throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch blocker = new CountDownLatch(1);
+    scheduler.execute(
+        () -> {
+          started.countDown();
+          try {
+            blocker.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    return blocker;
+  }
+
+  private static void awaitIdle(GcsReadScheduler scheduler) throws InterruptedException {
+    scheduler.shutdown();
+    assertThat(scheduler.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+  }
+}
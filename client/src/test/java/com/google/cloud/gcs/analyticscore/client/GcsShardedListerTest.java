@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.StorageException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class GcsShardedListerTest {
+
+  private static final String BUCKET = "test-bucket";
+  private static final String LISTED_PATH = "gs://test-bucket/dir/";
+
+  private final ExecutorService executorService = MoreExecutors.newDirectExecutorService();
+
+  @Test
+  void next_multipleShards_returnsObjectsInShardOrder() {
+    List<Callable<Page<Blob>>> shards =
+        ImmutableList.of(
+            () -> page(ImmutableList.of(blob("dir/a"), blob("dir/b")), /* nextPage= */ null),
+            () -> page(ImmutableList.of(), /* nextPage= */ null),
+            () -> page(ImmutableList.of(blob("dir/c")), /* nextPage= */ null));
+
+    List<String> objectNames = new ArrayList<>();
+    new GcsShardedLister(shards, executorService, 2, LISTED_PATH)
+        .forEachRemaining(itemInfo -> objectNames.add(itemInfo.getItemId().getObjectName().get()));
+
+    assertThat(objectNames).containsExactly("dir/a", "dir/b", "dir/c").inOrder();
+  }
+
+  @Test
+  void hasNext_shardConsumed_listsNextShardWithinConcurrencyLimit() {
+    AtomicInteger listedShards = new AtomicInteger();
+    List<Callable<Page<Blob>>> shards = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Page<Blob> page = page(ImmutableList.of(blob("dir/" + i)), /* nextPage= */ null);
+      shards.add(
+          () -> {
+            listedShards.incrementAndGet();
+            return page;
+          });
+    }
+
+    GcsShardedLister lister = new GcsShardedLister(shards, executorService, 2, LISTED_PATH);
+
+    assertThat(listedShards.get()).isEqualTo(2);
+    lister.next();
+    assertThat(listedShards.get()).isEqualTo(3);
+  }
+
+  @Test
+  void hasNext_shardFails_throwsUncheckedIOException() {
+    Page<Blob> firstShardPage = page(ImmutableList.of(blob("dir/a")), /* nextPage= */ null);
+    List<Callable<Page<Blob>>> shards =
+        ImmutableList.of(
+            () -> firstShardPage,
+            () -> {
+              throw new StorageException(503, "Unavailable");
+            });
+    GcsShardedLister lister = new GcsShardedLister(shards, executorService, 2, LISTED_PATH);
+    lister.next();
+
+    UncheckedIOException e = assertThrows(UncheckedIOException.class, lister::hasNext);
+
+    assertThat(e).hasCauseThat().hasMessageThat().contains(LISTED_PATH);
+    assertThat(e).hasCauseThat().hasCauseThat().isInstanceOf(StorageException.class);
+  }
+
+  @Test
+  void next_shardWithSeveralPages_fetchesEachPageInItsOwnTask() {
+    Page<Blob> lastPage = page(ImmutableList.of(blob("dir/c")), /* nextPage= */ null);
+    Page<Blob> secondPage = page(ImmutableList.of(blob("dir/b")), lastPage);
+    Page<Blob> firstPage = page(ImmutableList.of(blob("dir/a")), secondPage);
+    ThreadPoolExecutor spiedExecutorService =
+        spy(new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()));
+    List<String> objectNames = new ArrayList<>();
+
+    try {
+      new GcsShardedLister(
+              ImmutableList.of(() -> firstPage), spiedExecutorService, 1, LISTED_PATH)
+          .forEachRemaining(
+              itemInfo -> objectNames.add(itemInfo.getItemId().getObjectName().get()));
+    } finally {
+      spiedExecutorService.shutdown();
+    }
+
+    assertThat(objectNames).containsExactly("dir/a", "dir/b", "dir/c").inOrder();
+    verify(spiedExecutorService, times(3)).execute(any(Runnable.class));
+  }
+
+  @Test
+  void next_noShards_throwsNoSuchElementException() {
+    GcsShardedLister lister =
+        new GcsShardedLister(ImmutableList.of(), executorService, 2, LISTED_PATH);
+
+    assertThat(lister.hasNext()).isFalse();
+    assertThrows(NoSuchElementException.class, lister::next);
+  }
+
+  @Test
+  void constructor_nonPositiveMaxConcurrency_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new GcsShardedLister(ImmutableList.of(), executorService, 0, LISTED_PATH));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Page<Blob> page(List<Blob> blobs, Page<Blob> nextPage) {
+    Page<Blob> page = mock(Page.class);
+    when(page.getValues()).thenReturn(blobs);
+    when(page.hasNextPage()).thenReturn(nextPage != null);
+    if (nextPage != null) {
+      when(page.getNextPage()).thenReturn(nextPage);
+    }
+    return page;
+  }
+
+  private static Blob blob(String name) {
+    Blob blob = mock(Blob.class);
+    when(blob.getBucket()).thenReturn(BUCKET);
+    when(blob.getName()).thenReturn(name);
+    when(blob.getGeneration()).thenReturn(1L);
+    when(blob.getSize()).thenReturn(10L);
+    return blob;
+  }
+}
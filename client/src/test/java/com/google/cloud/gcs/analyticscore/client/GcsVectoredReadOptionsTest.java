@@ -26,14 +26,33 @@ class GcsVectoredReadOptionsTest {
   @Test
   void createFromOptions_withValidProperties_shouldCreateCorrectOptions() {
     ImmutableMap<String, String> properties =
-        ImmutableMap.of(
-            "gcs.analytics-core.read.vectored.range.merge-gap.max-bytes", "8192",
-            "gcs.analytics-core.read.vectored.range.merged-size.max-bytes", "16777216");
+        ImmutableMap.<String, String>builder()
+            .put("gcs.analytics-core.read.vectored.range.merge-gap.max-bytes", "8192")
+            .put("gcs.analytics-core.read.vectored.range.merged-size.max-bytes", "16777216")
+            .put("gcs.analytics-core.read.vectored.range.merge-gap.auto-tune.enabled", "true")
+            .put("gcs.analytics-core.read.vectored.range.merge-gap.auto-tune.min-bytes", "1024")
+            .put("gcs.analytics-core.read.vectored.range.merge-gap.auto-tune.max-bytes", "2097152")
+            .put("gcs.analytics-core.read.vectored.range.split-size-bytes", "33554432")
+            .put("gcs.analytics-core.read.vectored.resume.max-retries", "3")
+            .put("gcs.analytics-core.read.vectored.resume.initial-backoff-ms", "250")
+            .put("gcs.analytics-core.read.vectored.hedge.enabled", "true")
+            .put("gcs.analytics-core.read.vectored.hedge.percentile", "99")
+            .put("gcs.analytics-core.read.vectored.hedge.min-delay-ms", "100")
+            .build();
 
     GcsVectoredReadOptions options = GcsVectoredReadOptions.createFromOptions(properties, "gcs.");
 
     assertThat(options.getMaxMergeGap()).isEqualTo(8192);
     assertThat(options.getMaxMergeSize()).isEqualTo(16777216);
+    assertThat(options.isMergeGapAutoTuneEnabled()).isTrue();
+    assertThat(options.getAutoTuneMinMergeGap()).isEqualTo(1024);
+    assertThat(options.getAutoTuneMaxMergeGap()).isEqualTo(2097152);
+    assertThat(options.getSplitSize()).isEqualTo(33554432);
+    assertThat(options.getResumeMaxRetries()).isEqualTo(3);
+    assertThat(options.getResumeInitialBackoffMs()).isEqualTo(250);
+    assertThat(options.isHedgeEnabled()).isTrue();
+    assertThat(options.getHedgePercentile()).isEqualTo(99);
+    assertThat(options.getHedgeMinDelayMs()).isEqualTo(100);
   }
 
   @Test
@@ -44,5 +63,14 @@ class GcsVectoredReadOptionsTest {
 
     assertThat(options.getMaxMergeGap()).isEqualTo(4 * 1024);
     assertThat(options.getMaxMergeSize()).isEqualTo(8 * 1024 * 1024);
+    assertThat(options.isMergeGapAutoTuneEnabled()).isFalse();
+    assertThat(options.getAutoTuneMinMergeGap()).isEqualTo(4 * 1024);
+    assertThat(options.getAutoTuneMaxMergeGap()).isEqualTo(1024 * 1024);
+    assertThat(options.getSplitSize()).isEqualTo(0);
+    assertThat(options.getResumeMaxRetries()).isEqualTo(0);
+    assertThat(options.getResumeInitialBackoffMs()).isEqualTo(100);
+    assertThat(options.isHedgeEnabled()).isFalse();
+    assertThat(options.getHedgePercentile()).isEqualTo(95);
+    assertThat(options.getHedgeMinDelayMs()).isEqualTo(20);
   }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class GcsVirtualThreadExecutorTest {
+
+  @Test
+  void create_nonPositiveConcurrency_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> GcsVirtualThreadExecutor.create(0));
+  }
+
+  @Test
+  void create_returnsExecutorOnlyWhenRuntimeSupportsVirtualThreads() {
+    Optional<ExecutorService> executor = GcsVirtualThreadExecutor.create(4);
+
+    try {
+      assertThat(executor.isPresent()).isEqualTo(Runtime.version().feature() >= 21);
+    } finally {
+      executor.ifPresent(ExecutorService::shutdownNow);
+    }
+  }
+
+  @Test
+  void execute_moreTasksThanPermits_limitsConcurrentTasks() throws Exception {
+    GcsVirtualThreadExecutor executor =
+        new GcsVirtualThreadExecutor(Executors.newCachedThreadPool(), 2);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch twoStarted = new CountDownLatch(2);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    List<Future<?>> futures = new ArrayList<>();
+
+    for (int i = 0; i < 6; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                twoStarted.countDown();
+                try {
+                  release.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+              }));
+    }
+    assertThat(twoStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    int runningBeforeRelease = running.get();
+    release.countDown();
+    for (Future<?> future : futures) {
+      future.get(5, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    assertThat(runningBeforeRelease).isEqualTo(2);
+    assertThat(maxRunning.get()).isEqualTo(2);
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shutdownNow_taskWaitingForPermit_cancelsTask() throws Exception {
+    GcsVirtualThreadExecutor executor =
+        new GcsVirtualThreadExecutor(Executors.newCachedThreadPool(), 1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch blocker = new CountDownLatch(1);
+    // Holds the only permit through shutdownNow, so that the waiting task cannot get it.
+    var unused =
+        executor.submit(
+            () -> {
+              started.countDown();
+              Uninterruptibles.awaitUninterruptibly(blocker);
+            });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    // Cancelled whether it is already parked on the permit or not, as its thread gets interrupted.
+    Future<?> waiting = executor.submit(() -> {});
+
+    executor.shutdownNow();
+
+    assertThrows(CancellationException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+    blocker.countDown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(waiting.isCancelled()).isTrue();
+  }
+}
@@ -20,6 +20,7 @@ import static com.google.common.truth.Truth.assertThat;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.nio.ByteBuffer;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.apache.commons.lang3.RandomUtils;
@@ -127,6 +128,28 @@ class VectoredIoUtilTest {
     assertThat(merged.get(0).getUnderlyingRanges()).hasSize(2);
   }
 
+  @Test
+  void mergeGcsObjectRanges_withManyUnsortedRanges_keepsUnderlyingRangesInOffsetOrder() {
+    ImmutableList.Builder<GcsObjectRange> rangesBuilder = ImmutableList.builder();
+    for (int i = 9_999; i >= 0; i--) {
+      rangesBuilder.add(createRange(/* offset= */ i * 12L, /* length= */ 10));
+    }
+
+    List<GcsObjectCombinedRange> merged =
+        VectoredIoUtil.mergeGcsObjectRanges(rangesBuilder.build(), 5, 12 * 5_000);
+
+    assertThat(merged).hasSize(2);
+    assertThat(merged.get(0).getOffset()).isEqualTo(0);
+    assertThat(merged.get(0).getLength()).isEqualTo(12 * 4_999 + 10);
+    assertThat(merged.get(0).getUnderlyingRanges()).hasSize(5_000);
+    assertThat(merged.get(1).getOffset()).isEqualTo(12 * 5_000);
+    assertThat(merged.get(1).getUnderlyingRanges()).hasSize(5_000);
+    for (GcsObjectCombinedRange combinedRange : merged) {
+      assertThat(combinedRange.getUnderlyingRanges())
+          .isInOrder(Comparator.comparingLong(GcsObjectRange::getOffset));
+    }
+  }
+
   @Test
   void fetchUnderlyingRangeData_withValidInputs_returnsCorrectDataSlice() {
     byte[] data = RandomUtils.nextBytes(100);
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.gcs.analyticscore.client;
+
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+@State(Scope.Benchmark)
+public class VectoredIoUtilState {
+    private static final int RANGE_LENGTH = 100;
+    private static final int RANGE_GAP = 50;
+
+    @Param({"10", "1000", "100000"})
+    public int rangeCount;
+
+    @Param({"true", "false"})
+    public boolean shuffled;
+
+    public int maxMergeGap = 4 * 1024; // 4KB
+    public int maxMergeSize = 8 * 1024 * 1024; // 8MB
+    public ImmutableList<GcsObjectRange> ranges;
+
+    @Setup(Level.Trial)
+    public void createRanges() {
+        List<GcsObjectRange> rangeList = new ArrayList<>(rangeCount);
+        for (int i = 0; i < rangeCount; i++) {
+            rangeList.add(
+                    GcsObjectRange.builder()
+                            .setOffset((long) i * (RANGE_LENGTH + RANGE_GAP))
+                            .setLength(RANGE_LENGTH)
+                            .setByteBufferFuture(new CompletableFuture<>())
+                            .build());
+        }
+        if (shuffled) {
+            Collections.shuffle(rangeList, new Random(42));
+        }
+        ranges = ImmutableList.copyOf(rangeList);
+    }
+}
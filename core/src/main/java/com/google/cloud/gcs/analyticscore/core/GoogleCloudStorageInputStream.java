@@ -21,9 +21,22 @@ import com.google.cloud.gcs.analyticscore.client.*;
 import com.google.cloud.storage.BlobId;
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import javax.annotation.Nonnull;
 import org.slf4j.Logger;
@@ -34,6 +47,10 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
   private static final Logger LOG = LoggerFactory.getLogger(GoogleCloudStorageInputStream.class);
 
   private static final int LARGE_FILE_SIZE_THRESHOLD = 1024 * 1024 * 1024; // 1 GB.
+  // Release function of vectored reads whose buffers are never handed back to an allocator, which
+  // is compared by identity to skip tracking their release.
+  @SuppressWarnings("UnnecessaryLambda")
+  private static final Consumer<ByteBuffer> NO_RELEASE = buffer -> {};
   // Used for single-byte reads to avoid repeated allocation.
   private final ByteBuffer singleByteBuffer = ByteBuffer.wrap(new byte[1]);
 
@@ -49,9 +66,21 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
   private long prefetchSize;
   private long fileSize;
   private volatile ByteBuffer prefetchBuffer;
+  // Set when prefetchBuffer came from the file system buffer pool and is owned by this stream.
+  private ByteBuffer pooledPrefetchBuffer;
+  // Footer being fetched in the background, moved to prefetchBuffer once it is needed.
+  private CompletableFuture<ByteBuffer> pendingPrefetch;
 
   private GcsFileInfo gcsFileInfo;
 
+  // Idle channels kept open for positional reads, guarded by itself.
+  private final Deque<VectoredSeekableByteChannel> positionalChannels = new ArrayDeque<>();
+  private final int positionalChannelPoolSize;
+  private final boolean directBuffersEnabled;
+  private final boolean cachedRangeViewsEnabled;
+  // Actions returning the buffers of vectored ranges served from the cache, run by releaseRange.
+  private final Map<GcsObjectRange, Runnable> releaseHooks = new ConcurrentHashMap<>();
+
   public static GoogleCloudStorageInputStream create(
       GcsFileSystem gcsFileSystem, GcsFileInfo gcsFileInfo) throws IOException {
     checkState(gcsFileInfo != null, "GcsFileInfo shouldn't be null");
@@ -59,7 +88,16 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
         gcsFileSystem.open(
             gcsFileInfo,
             gcsFileSystem.getFileSystemOptions().getGcsClientOptions().getGcsReadOptions());
-    return new GoogleCloudStorageInputStream(gcsFileSystem, channel, gcsFileInfo);
+    GoogleCloudStorageInputStream inputStream =
+        new GoogleCloudStorageInputStream(gcsFileSystem, channel, gcsFileInfo);
+    if (gcsFileSystem
+        .getFileSystemOptions()
+        .getGcsClientOptions()
+        .getGcsReadOptions()
+        .isFooterPrefetchAsyncEnabled()) {
+      inputStream.startPrefetch();
+    }
+    return inputStream;
   }
 
   public static GoogleCloudStorageInputStream create(GcsFileSystem gcsFileSystem, URI path)
@@ -92,6 +130,11 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
         URI.create(BlobId.of(itemId.getBucketName(), itemId.getObjectName().get()).toGsUtilUri());
     this.gcsItemId = itemId;
     this.position = 0;
+    GcsReadOptions readOptions =
+        gcsFileSystem.getFileSystemOptions().getGcsClientOptions().getGcsReadOptions();
+    this.positionalChannelPoolSize = readOptions.getPositionalReadChannelPoolSize();
+    this.directBuffersEnabled = readOptions.isDirectBuffersEnabled();
+    this.cachedRangeViewsEnabled = readOptions.isCachedRangeViewsEnabled();
   }
 
   @Override
@@ -122,7 +165,10 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
   public int read(ByteBuffer byteBuffer) throws IOException {
     checkNotClosed("Cannot read: already closed");
     if (isMetadataInitialized() && prefetchBuffer == null && position >= fileSize - prefetchSize) {
-      cacheObjectOrFooter();
+      collectPrefetch(/* wait= */ true);
+      if (prefetchBuffer == null) {
+        cacheObjectOrFooter();
+      }
     }
     if (prefetchBuffer != null && (position >= fileSize - prefetchSize)) {
       return serveFromCache(byteBuffer);
@@ -162,6 +208,17 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
       if (channel != null) {
         channel.close();
       }
+      closePositionalChannels();
+      if (pendingPrefetch != null) {
+        pendingPrefetch.cancel(false);
+        pendingPrefetch = null;
+      }
+      if (pooledPrefetchBuffer != null) {
+        ByteBuffer buffer = pooledPrefetchBuffer;
+        pooledPrefetchBuffer = null;
+        prefetchBuffer = null;
+        gcsFileSystem.getBufferPool().ifPresent(pool -> pool.release(buffer));
+      }
     }
   }
 
@@ -173,55 +230,308 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
 
   @Override
   public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
-    try (VectoredSeekableByteChannel byteChannel = openReadChannel()) {
-      byteChannel.position(position);
-      int numberOfBytesRead = byteChannel.read(ByteBuffer.wrap(buffer, offset, length));
-      if (numberOfBytesRead < length) {
-        throw new EOFException(
-            "Reached the end of stream with "
-                + (length - numberOfBytesRead)
-                + " bytes left to read");
-      }
+    checkNotClosed("Cannot read: already closed");
+    ByteBuffer destination = ByteBuffer.wrap(buffer, offset, length);
+    collectPrefetch(/* wait= */ position >= fileSize - prefetchSize);
+    if (isCachedRange(position, length)) {
+      serveFromCacheWithoutSeek(position, destination);
+      return;
+    }
+    int numberOfBytesRead = positionalRead(position, destination);
+    if (numberOfBytesRead < length) {
+      throw new EOFException(
+          "Reached the end of stream with " + (length - numberOfBytesRead) + " bytes left to read");
     }
   }
 
   @Override
   public int readTail(byte[] buffer, int offset, int length) throws IOException {
+    checkNotClosed("Cannot read: already closed");
     if (!isMetadataInitialized()) {
       initializeMetadata();
     }
-    try (VectoredSeekableByteChannel byteChannel = openReadChannel()) {
-      long size = gcsFileInfo.getItemInfo().getSize();
-      long startPosition = Math.max(0, size - length);
-      byteChannel.position(startPosition);
-      return byteChannel.read(ByteBuffer.wrap(buffer, offset, length));
+    long size = gcsFileInfo.getItemInfo().getSize();
+    long startPosition = Math.max(0, size - length);
+    ByteBuffer destination = ByteBuffer.wrap(buffer, offset, length);
+    collectPrefetch(/* wait= */ true);
+    Optional<ByteBuffer> cachedTail = getCachedTail((int) (size - startPosition));
+    if (cachedTail.isPresent()) {
+      int bytesRead = cachedTail.get().remaining();
+      destination.put(cachedTail.get());
+      return bytesRead;
     }
+    return positionalRead(startPosition, destination);
   }
 
   @Override
   public void readVectored(List<GcsObjectRange> fileRanges, IntFunction<ByteBuffer> alloc)
       throws IOException {
-    if (prefetchBuffer != null && prefetchSize == fileSize) {
-      // Entire object is cached, serve from prefetchBuffer
-      for (GcsObjectRange range : fileRanges) {
-        ByteBuffer dest = alloc.apply(range.getLength());
-        int bytesRead = serveFromCacheWithoutSeek(range.getOffset(), dest);
-        if (bytesRead < range.getLength()) {
-          range
-              .getByteBufferFuture()
-              .completeExceptionally(
-                  new EOFException(
-                      String.format("Error while populating range: %s, unexpected EOF", range)));
-        } else {
-          dest.flip();
-          range.getByteBufferFuture().complete(dest);
-        }
-      }
+    collectPrefetch(/* wait= */ false);
+    if (prefetchBuffer != null) {
+      readVectoredWithCache(fileRanges, alloc, NO_RELEASE);
     } else {
       channel.readVectored(fileRanges, alloc);
     }
   }
 
+  @Override
+  public void readVectored(
+      List<GcsObjectRange> fileRanges, IntFunction<ByteBuffer> alloc, Consumer<ByteBuffer> release)
+      throws IOException {
+    collectPrefetch(/* wait= */ false);
+    if (prefetchBuffer != null) {
+      readVectoredWithCache(fileRanges, alloc, release);
+    } else {
+      channel.readVectored(fileRanges, alloc, release);
+    }
+  }
+
+  @Override
+  public void releaseRange(GcsObjectRange range) {
+    Runnable releaseHook = releaseHooks.remove(range);
+    if (releaseHook != null) {
+      releaseHook.run();
+    } else {
+      channel.releaseRange(range);
+    }
+  }
+
+  private boolean isObjectCached() {
+    return prefetchBuffer != null && prefetchSize == fileSize;
+  }
+
+  /**
+   * Serves the ranges, or the parts of them, covered by the prefetched footer from the cache and
+   * reads the rest through the channel.
+   */
+  private void readVectoredWithCache(
+      List<GcsObjectRange> fileRanges, IntFunction<ByteBuffer> alloc, Consumer<ByteBuffer> release)
+      throws IOException {
+    if (isObjectCached()) {
+      readVectoredFromCache(fileRanges, alloc, release);
+      return;
+    }
+    long cacheStart = fileSize - prefetchSize;
+    List<GcsObjectRange> cachedRanges = new ArrayList<>();
+    List<GcsObjectRange> uncachedRanges = new ArrayList<>();
+    for (GcsObjectRange range : fileRanges) {
+      long rangeEnd = range.getOffset() + range.getLength();
+      if (range.getOffset() >= cacheStart && rangeEnd <= fileSize) {
+        cachedRanges.add(range);
+      } else if (range.getOffset() < cacheStart && rangeEnd > cacheStart && rangeEnd <= fileSize) {
+        readUncachedHead(range, cacheStart, alloc, release);
+      } else {
+        uncachedRanges.add(range);
+      }
+    }
+    if (!uncachedRanges.isEmpty()) {
+      LOG.debug(
+          "Serving {} of {} vectored ranges of {} from the prefetched footer",
+          fileRanges.size() - uncachedRanges.size(),
+          fileRanges.size(),
+          gcsPath);
+      channel.readVectored(uncachedRanges, alloc, release);
+    }
+    if (!cachedRanges.isEmpty()) {
+      readVectoredFromCache(cachedRanges, alloc, release);
+    }
+  }
+
+  /**
+   * Reads the part of {@code range} before the prefetched footer. The cached part is copied right
+   * away into the buffer of {@code range}, and the channel reads the rest into a slice of the same
+   * buffer. Cancelling {@code range} cancels the read of its head.
+   */
+  private void readUncachedHead(
+      GcsObjectRange range,
+      long cacheStart,
+      IntFunction<ByteBuffer> alloc,
+      Consumer<ByteBuffer> release)
+      throws IOException {
+    int headLength = (int) (cacheStart - range.getOffset());
+    GcsObjectRange head =
+        GcsObjectRange.builder()
+            .setOffset(range.getOffset())
+            .setLength(headLength)
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+    ByteBuffer dest = alloc.apply(range.getLength());
+    dest.limit(range.getLength());
+    dest.position(headLength);
+    serveFromCacheWithoutSeek(cacheStart, dest);
+    dest.position(0);
+    // One reference for the range, and one for each buffer the channel allocates for the head.
+    AtomicInteger destReferences = new AtomicInteger(1);
+    Runnable releaseDest =
+        () -> {
+          if (destReferences.decrementAndGet() == 0) {
+            release.accept(dest);
+          }
+        };
+    AtomicBoolean headAllocated = new AtomicBoolean();
+    IntFunction<ByteBuffer> headAlloc =
+        size -> {
+          if (destReferences.getAndUpdate(references -> references == 0 ? 0 : references + 1)
+              == 0) {
+            throw new CancellationException("Vectored range was released");
+          }
+          headAllocated.set(true);
+          // Each request for the head, e.g. a hedged one, reads the same bytes into this slice.
+          ByteBuffer headSlice = dest.duplicate();
+          headSlice.limit(headLength);
+          return headSlice.slice();
+        };
+    var unusedCancellation =
+        range
+            .getByteBufferFuture()
+            .whenComplete(
+                (buffer, e) -> {
+                  if (e instanceof CancellationException) {
+                    head.getByteBufferFuture().cancel(true);
+                  }
+                });
+    var unused =
+        head.getByteBufferFuture()
+            .whenComplete(
+                (headBuffer, e) -> {
+                  if (e != null) {
+                    releaseDest.run();
+                    range.getByteBufferFuture().completeExceptionally(e);
+                    return;
+                  }
+                  if (!headAllocated.get()) {
+                    // The channel read the head into a buffer of its own.
+                    dest.duplicate().put(headBuffer.duplicate());
+                  }
+                  if (release == NO_RELEASE) {
+                    channel.releaseRange(head);
+                  } else {
+                    releaseHooks.put(
+                        range,
+                        () -> {
+                          channel.releaseRange(head);
+                          releaseDest.run();
+                        });
+                  }
+                  if (!range.getByteBufferFuture().complete(dest)) {
+                    releaseRange(range);
+                  }
+                });
+    try {
+      channel.readVectored(List.of(head), headAlloc, buffer -> releaseDest.run());
+    } catch (IOException | RuntimeException e) {
+      head.getByteBufferFuture().completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private void readVectoredFromCache(
+      List<GcsObjectRange> fileRanges, IntFunction<ByteBuffer> alloc, Consumer<ByteBuffer> release)
+      throws IOException {
+    if (cachedRangeViewsEnabled) {
+      sliceVectoredFromCache(fileRanges);
+      return;
+    }
+    // Ranges are within the cached object or footer, serve from prefetchBuffer
+    for (GcsObjectRange range : fileRanges) {
+      ByteBuffer dest = alloc.apply(range.getLength());
+      int bytesRead = serveFromCacheWithoutSeek(range.getOffset(), dest);
+      if (bytesRead < range.getLength()) {
+        release.accept(dest);
+        range
+            .getByteBufferFuture()
+            .completeExceptionally(
+                new EOFException(
+                    String.format("Error while populating range: %s, unexpected EOF", range)));
+      } else {
+        dest.flip();
+        setReleaseHook(range, dest, release);
+        range.getByteBufferFuture().complete(dest);
+      }
+    }
+  }
+
+  private void setReleaseHook(GcsObjectRange range, ByteBuffer dest, Consumer<ByteBuffer> release) {
+    if (release != NO_RELEASE) {
+      releaseHooks.put(range, () -> release.accept(dest));
+    }
+  }
+
+  /** Completes the ranges with read-only views of the cached object or footer instead of copies. */
+  private void sliceVectoredFromCache(List<GcsObjectRange> fileRanges) {
+    // The views may outlive this stream, so the cached buffer must not go back to the pool.
+    pooledPrefetchBuffer = null;
+    ByteBuffer cachedObject = prefetchBuffer;
+    long cacheStart = fileSize - prefetchSize;
+    for (GcsObjectRange range : fileRanges) {
+      if (range.getOffset() < cacheStart || range.getOffset() + range.getLength() > fileSize) {
+        range
+            .getByteBufferFuture()
+            .completeExceptionally(
+                new EOFException(
+                    String.format("Error while populating range: %s, unexpected EOF", range)));
+        continue;
+      }
+      ByteBuffer rangeView = cachedObject.duplicate();
+      rangeView.position((int) (range.getOffset() - cacheStart));
+      rangeView.limit(rangeView.position() + range.getLength());
+      range.getByteBufferFuture().complete(rangeView.slice().asReadOnlyBuffer());
+    }
+  }
+
+  private int positionalRead(long position, ByteBuffer destination) throws IOException {
+    VectoredSeekableByteChannel byteChannel = acquirePositionalChannel();
+    boolean reusable = false;
+    try {
+      byteChannel.position(position);
+      int numberOfBytesRead = byteChannel.read(destination);
+      reusable = true;
+      return numberOfBytesRead;
+    } finally {
+      releasePositionalChannel(byteChannel, reusable);
+    }
+  }
+
+  private VectoredSeekableByteChannel acquirePositionalChannel() throws IOException {
+    synchronized (positionalChannels) {
+      VectoredSeekableByteChannel pooledChannel = positionalChannels.pollFirst();
+      if (pooledChannel != null) {
+        return pooledChannel;
+      }
+    }
+    return openReadChannel();
+  }
+
+  private void releasePositionalChannel(VectoredSeekableByteChannel byteChannel, boolean reusable)
+      throws IOException {
+    if (reusable) {
+      synchronized (positionalChannels) {
+        if (!closed && positionalChannels.size() < positionalChannelPoolSize) {
+          positionalChannels.offerFirst(byteChannel);
+          return;
+        }
+      }
+    }
+    byteChannel.close();
+  }
+
+  private void closePositionalChannels() throws IOException {
+    IOException closeException = null;
+    synchronized (positionalChannels) {
+      for (VectoredSeekableByteChannel pooledChannel : positionalChannels) {
+        try {
+          pooledChannel.close();
+        } catch (IOException e) {
+          closeException = closeException == null ? e : closeException;
+        }
+      }
+      positionalChannels.clear();
+    }
+    if (closeException != null) {
+      throw closeException;
+    }
+  }
+
   private VectoredSeekableByteChannel openReadChannel() throws IOException {
     if (gcsFileInfo != null) {
       return gcsFileSystem.open(
@@ -249,14 +559,75 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
     this.prefetchSize = calculatePrefetchSize(fileSize, readOptions);
   }
 
+  /**
+   * Starts fetching the object or footer that {@link #cacheObjectOrFooter()} would cache, without
+   * waiting for it. The request goes through the vectored read path of the channel, so it neither
+   * moves the channel nor blocks the caller, and is scheduled ahead of queued data reads.
+   */
+  private void startPrefetch() throws IOException {
+    if (prefetchSize == 0) {
+      return;
+    }
+    Optional<ByteBuffer> cachedTail = getTailFromFooterCache();
+    if (cachedTail.isPresent()) {
+      this.prefetchBuffer = cachedTail.get();
+      return;
+    }
+    LOG.debug(
+        "Prefetching GCS object {} from position: {} size: {}",
+        gcsPath,
+        fileSize - prefetchSize,
+        prefetchSize);
+    GcsObjectRange prefetchRange =
+        GcsObjectRange.builder()
+            .setOffset(fileSize - prefetchSize)
+            .setLength((int) prefetchSize)
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+    this.pendingPrefetch = prefetchRange.getByteBufferFuture();
+    channel.readVectoredHighPriority(
+        List.of(prefetchRange),
+        size -> directBuffersEnabled ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size));
+  }
+
+  /**
+   * Moves the result of the background prefetch to prefetchBuffer once it is done. A failed
+   * prefetch is dropped, so the footer is then fetched synchronously when it is read.
+   *
+   * @param wait whether to wait for a prefetch that is still in progress.
+   */
+  private void collectPrefetch(boolean wait) throws IOException {
+    CompletableFuture<ByteBuffer> prefetch = pendingPrefetch;
+    if (prefetch == null || (!wait && !prefetch.isDone())) {
+      return;
+    }
+    pendingPrefetch = null;
+    try {
+      ByteBuffer prefetchedBuffer = prefetch.get();
+      this.prefetchBuffer = prefetchedBuffer;
+      gcsFileSystem.getFooterCache().ifPresent(cache -> cache.put(gcsItemId, prefetchedBuffer));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the footer of " + gcsPath);
+    } catch (ExecutionException | CancellationException e) {
+      LOG.warn("Error while prefetching object {}. Error : {}", gcsPath, e.getMessage());
+    }
+  }
+
   private void cacheObjectOrFooter() throws IOException {
+    Optional<ByteBuffer> cachedTail = getTailFromFooterCache();
+    if (cachedTail.isPresent()) {
+      this.prefetchBuffer = cachedTail.get();
+      return;
+    }
     long originalPosition = getPos();
     long startPosition = fileSize - prefetchSize;
     int bufferSize = (int) (fileSize - startPosition);
     LOG.debug(
         "Caching GCS object {} from position: {} size: {}", gcsPath, startPosition, bufferSize);
+    Optional<GcsByteBufferPool> bufferPool = gcsFileSystem.getBufferPool();
+    ByteBuffer cacheBuffer = allocateCacheBuffer(bufferPool, bufferSize);
     try {
-      ByteBuffer cacheBuffer = ByteBuffer.allocate(bufferSize);
       channel.position(startPosition);
       while (cacheBuffer.hasRemaining()) {
         if (channel.read(cacheBuffer) == -1) {
@@ -265,7 +636,15 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
       }
       cacheBuffer.flip();
       this.prefetchBuffer = cacheBuffer;
+      Optional<GcsFooterCache> footerCache = gcsFileSystem.getFooterCache();
+      if (footerCache.isPresent()) {
+        // The footer cache keeps a view of the buffer, so it is never handed back to the pool.
+        footerCache.get().put(gcsItemId, cacheBuffer);
+      } else if (bufferPool.isPresent()) {
+        this.pooledPrefetchBuffer = cacheBuffer;
+      }
     } catch (IOException e) {
+      bufferPool.ifPresent(pool -> pool.release(cacheBuffer));
       LOG.warn(
           "Error while caching object {} from position: {} length: {}. Error : {}",
           gcsPath,
@@ -277,6 +656,41 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
     }
   }
 
+  private ByteBuffer allocateCacheBuffer(Optional<GcsByteBufferPool> bufferPool, int size) {
+    if (bufferPool.isPresent()) {
+      return directBuffersEnabled
+          ? bufferPool.get().allocateDirect(size)
+          : bufferPool.get().allocate(size);
+    }
+    return directBuffersEnabled ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+  }
+
+  private Optional<ByteBuffer> getTailFromFooterCache() {
+    Optional<ByteBuffer> cachedTail =
+        gcsFileSystem.getFooterCache().flatMap(cache -> cache.get(gcsItemId, (int) prefetchSize));
+    if (cachedTail.isPresent()) {
+      LOG.debug("Serving GCS object {} tail of size: {} from footer cache", gcsPath, prefetchSize);
+    }
+    return cachedTail;
+  }
+
+  private boolean isCachedRange(long rangeStart, int length) {
+    return prefetchBuffer != null
+        && rangeStart >= fileSize - prefetchSize
+        && rangeStart + length <= fileSize;
+  }
+
+  /** Returns the last {@code length} bytes of the object if the prefetched tail covers them. */
+  private Optional<ByteBuffer> getCachedTail(int length) {
+    ByteBuffer tail = prefetchBuffer;
+    if (tail == null || tail.remaining() < length) {
+      return gcsFileSystem.getFooterCache().flatMap(cache -> cache.get(gcsItemId, length));
+    }
+    ByteBuffer tailView = tail.duplicate();
+    tailView.position(tailView.limit() - length);
+    return Optional.of(tailView);
+  }
+
   private int serveFromCache(ByteBuffer buffer) throws IOException {
     int bytesToRead = serveFromCacheWithoutSeek(position, buffer);
     if (bytesToRead != -1) {
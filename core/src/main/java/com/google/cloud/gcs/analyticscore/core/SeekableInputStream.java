@@ -15,11 +15,13 @@
  */
 package com.google.cloud.gcs.analyticscore.core;
 
+import com.google.cloud.gcs.analyticscore.client.GcsObjectChunkedRange;
 import com.google.cloud.gcs.analyticscore.client.GcsObjectRange;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.IntFunction;
 
 /**
@@ -91,4 +93,44 @@ public abstract class SeekableInputStream extends InputStream {
    */
   public abstract void readVectored(
       List<GcsObjectRange> fileRanges, final IntFunction<ByteBuffer> alloc) throws IOException;
+
+  /**
+   * Performs a vectored read, fetching multiple ranges in parallel. Buffers obtained from {@code
+   * alloc} are handed to {@code release} once the ranges they back have been released through
+   * {@link #releaseRange(GcsObjectRange)}, or when a read fails. Implementations that do not
+   * support releasing buffers ignore {@code release}.
+   *
+   * @param fileRanges a list of {@link GcsObjectRange} ranges to be read in parallel.
+   * @param alloc a function that allocates a {@link ByteBuffer} of a given size.
+   * @param release a function that returns a {@link ByteBuffer} to the allocator.
+   * @throws IOException if any I/O error occurs during the reads.
+   */
+  public void readVectored(
+      List<GcsObjectRange> fileRanges, IntFunction<ByteBuffer> alloc, Consumer<ByteBuffer> release)
+      throws IOException {
+    readVectored(fileRanges, alloc);
+  }
+
+  /**
+   * Releases the buffer backing a range read with {@link #readVectored(List, IntFunction,
+   * Consumer)} once the caller is done with its contents. Only the first call for a range has an
+   * effect.
+   *
+   * @param range a range previously read with a release function.
+   */
+  public void releaseRange(GcsObjectRange range) {}
+
+  /**
+   * Performs a vectored read of ranges that may be larger than a single {@link ByteBuffer}. Each
+   * range is read as chunks, which are fetched in parallel like the ranges of {@link
+   * #readVectored(List, IntFunction)}.
+   *
+   * @param fileRanges a list of {@link GcsObjectChunkedRange} ranges to be read in parallel.
+   * @param alloc a function that allocates the {@link ByteBuffer} of a chunk of a given size.
+   * @throws IOException if any I/O error occurs during the reads.
+   */
+  public void readVectoredChunked(
+      List<GcsObjectChunkedRange> fileRanges, IntFunction<ByteBuffer> alloc) throws IOException {
+    readVectored(GcsObjectChunkedRange.toObjectRanges(fileRanges), alloc);
+  }
 }
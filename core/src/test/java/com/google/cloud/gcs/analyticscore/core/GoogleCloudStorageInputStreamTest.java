@@ -25,10 +25,13 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.IntFunction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -627,6 +630,107 @@ class GoogleCloudStorageInputStreamTest {
     verify(newMockChannel).close();
   }
 
+  @Test
+  void readFully_calledTwice_reusesPositionalChannel() throws IOException {
+    byte[] buffer = new byte[10];
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setPositionalReadChannelPoolSize(4).build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    VectoredSeekableByteChannel positionalChannel = mock(VectoredSeekableByteChannel.class);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions))
+        .thenReturn(mockChannel, positionalChannel);
+    when(positionalChannel.read(any(ByteBuffer.class))).thenReturn(buffer.length);
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+
+    googleCloudStorageInputStream.readFully(100L, buffer, 0, buffer.length);
+    googleCloudStorageInputStream.readFully(200L, buffer, 0, buffer.length);
+
+    verify(mockFileSystem, times(2)).open(mockGcsFileInfo, readOptions);
+    verify(positionalChannel).position(100L);
+    verify(positionalChannel).position(200L);
+    verify(positionalChannel, never()).close();
+    verifyNoInteractions(mockChannel);
+  }
+
+  @Test
+  void readFully_defaultOptions_closesChannelAfterRead() throws IOException {
+    byte[] buffer = new byte[10];
+    GcsReadOptions readOptions = GcsReadOptions.builder().build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    VectoredSeekableByteChannel positionalChannel = mock(VectoredSeekableByteChannel.class);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions))
+        .thenReturn(mockChannel, positionalChannel);
+    when(positionalChannel.read(any(ByteBuffer.class))).thenReturn(buffer.length);
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+
+    googleCloudStorageInputStream.readFully(100L, buffer, 0, buffer.length);
+
+    verify(positionalChannel).close();
+  }
+
+  @Test
+  void readFully_channelReadFails_closesChannel() throws IOException {
+    byte[] buffer = new byte[10];
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setPositionalReadChannelPoolSize(4).build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    VectoredSeekableByteChannel positionalChannel = mock(VectoredSeekableByteChannel.class);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions))
+        .thenReturn(mockChannel, positionalChannel);
+    when(positionalChannel.read(any(ByteBuffer.class)))
+        .thenThrow(new IOException("Simulated read error"));
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+
+    assertThrows(
+        IOException.class,
+        () -> googleCloudStorageInputStream.readFully(100L, buffer, 0, buffer.length));
+
+    verify(positionalChannel).close();
+  }
+
+  @Test
+  void readFully_rangeInPrefetchedFooter_servesFromCache() throws IOException {
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setFooterPrefetchSizeSmallFile(prefetchSize).build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions)).thenReturn(mockChannel);
+    byte[] footerData = new byte[] {50, 51, 52, 53, 54, 55, 56, 57, 58, 59};
+    when(mockChannel.read(any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<ByteBuffer>getArgument(0).put(footerData);
+              return prefetchSize;
+            });
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+    googleCloudStorageInputStream.seek(fileSize - prefetchSize);
+    googleCloudStorageInputStream.read(); // caches the footer
+    byte[] buffer = new byte[3];
+
+    googleCloudStorageInputStream.readFully(995L, buffer, 0, buffer.length);
+
+    assertThat(buffer).isEqualTo(new byte[] {55, 56, 57});
+    verify(mockFileSystem, times(1)).open(mockGcsFileInfo, readOptions);
+  }
+
+  @Test
+  void close_closesPooledPositionalChannels() throws IOException {
+    byte[] buffer = new byte[10];
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setPositionalReadChannelPoolSize(4).build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    VectoredSeekableByteChannel positionalChannel = mock(VectoredSeekableByteChannel.class);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions))
+        .thenReturn(mockChannel, positionalChannel);
+    when(positionalChannel.read(any(ByteBuffer.class))).thenReturn(buffer.length);
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+    googleCloudStorageInputStream.readFully(100L, buffer, 0, buffer.length);
+
+    googleCloudStorageInputStream.close();
+
+    verify(mockChannel).close();
+    verify(positionalChannel).close();
+  }
+
   @Test
   void readFully_withInvalidBufferArgs_throwsIndexOutOfBoundsException() throws IOException {
     byte[] buffer = new byte[10];
@@ -694,6 +798,32 @@ class GoogleCloudStorageInputStreamTest {
     assertThat(googleCloudStorageInputStream.getPos()).isEqualTo(initialStreamPosition);
   }
 
+  @Test
+  void readTail_footerPrefetched_servesFromCache() throws IOException {
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setFooterPrefetchSizeSmallFile(prefetchSize).build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions)).thenReturn(mockChannel);
+    byte[] footerData = new byte[] {50, 51, 52, 53, 54, 55, 56, 57, 58, 59};
+    when(mockChannel.read(any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<ByteBuffer>getArgument(0).put(footerData);
+              return prefetchSize;
+            });
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+    googleCloudStorageInputStream.seek(fileSize - prefetchSize);
+    googleCloudStorageInputStream.read(); // caches the footer
+    byte[] buffer = new byte[6];
+
+    int bytesRead = googleCloudStorageInputStream.readTail(buffer, 2, 4);
+
+    assertThat(bytesRead).isEqualTo(4);
+    assertThat(buffer).isEqualTo(new byte[] {0, 0, 56, 57, 58, 59});
+    verify(mockFileSystem, times(1)).open(mockGcsFileInfo, readOptions);
+    verify(mockChannel, times(1)).read(any(ByteBuffer.class));
+  }
+
   @Test
   void readTail_zeroLength_returnsZero() throws IOException {
     byte[] buffer = new byte[20];
@@ -1148,6 +1278,69 @@ class GoogleCloudStorageInputStreamTest {
     assertThat(exception).hasCauseThat().isInstanceOf(EOFException.class);
   }
 
+  @Test
+  void readVectored_smallObjectCachedWithRangeViews_returnsViewsOfCache()
+      throws IOException, ExecutionException, InterruptedException {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.createFromOptions(
+            Map.of(
+                "analytics-core.small-file.cache.threshold-bytes", "1024",
+                "analytics-core.read.direct-buffers.enabled", "true",
+                "analytics-core.read.cached-range-views.enabled", "true",
+                "analytics-core.buffer-pool.max-size-bytes", "1048576"),
+            "");
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    byte data[] = TestDataGenerator.createGcsData(itemId, 1024);
+    FakeGcsFileSystemImpl fakeGcsFileSystem = new FakeGcsFileSystemImpl(options);
+    googleCloudStorageInputStream =
+        GoogleCloudStorageInputStream.create(
+            fakeGcsFileSystem, URI.create("gs://test-bucket/test-object"));
+    GcsObjectRange range = createGcsObjectRange(/* offset= */ 200, /* length= */ 100);
+    googleCloudStorageInputStream.read(); // caches the object
+
+    googleCloudStorageInputStream.readVectored(
+        List.of(range),
+        (size) -> {
+          throw new AssertionError("Cached ranges should not be copied");
+        });
+    ByteBuffer rangeResult = range.getByteBufferFuture().get();
+    googleCloudStorageInputStream.close();
+
+    assertThat(rangeResult.isDirect()).isTrue();
+    assertThat(rangeResult.isReadOnly()).isTrue();
+    assertTargetByteBufferPresentAtOffset(data, rangeResult, range.getOffset(), range.getLength());
+    // The range still references the cached buffer, so it is not handed back to the pool.
+    assertThat(fakeGcsFileSystem.getBufferPool().get().getPooledBytes()).isEqualTo(0);
+  }
+
+  @Test
+  void readVectored_smallObjectCachedWithDirectBuffers_copiesIntoAllocatedBuffers()
+      throws IOException, ExecutionException, InterruptedException {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.createFromOptions(
+            Map.of(
+                "analytics-core.small-file.cache.threshold-bytes", "1024",
+                "analytics-core.read.direct-buffers.enabled", "true"),
+            "");
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    byte data[] = TestDataGenerator.createGcsData(itemId, 1024);
+    FakeGcsFileSystemImpl fakeGcsFileSystem = new FakeGcsFileSystemImpl(options);
+    googleCloudStorageInputStream =
+        GoogleCloudStorageInputStream.create(
+            fakeGcsFileSystem, URI.create("gs://test-bucket/test-object"));
+    GcsObjectRange range = createGcsObjectRange(/* offset= */ 200, /* length= */ 100);
+    googleCloudStorageInputStream.read(); // caches the object
+
+    googleCloudStorageInputStream.readVectored(List.of(range), ByteBuffer::allocate);
+    ByteBuffer rangeResult = range.getByteBufferFuture().get();
+
+    assertThat(rangeResult.isDirect()).isFalse();
+    assertThat(rangeResult.isReadOnly()).isFalse();
+    assertTargetByteBufferPresentAtOffset(data, rangeResult, range.getOffset(), range.getLength());
+  }
+
   @Test
   void readVectored_cacheNotAvailable_readsFromChannels()
       throws IOException, ExecutionException, InterruptedException {
@@ -1177,6 +1370,244 @@ class GoogleCloudStorageInputStreamTest {
     assertThat(googleCloudStorageInputStream.getPos()).isEqualTo(position);
   }
 
+  @Test
+  void readVectored_rangesOverlappingPrefetchedFooter_readsOnlyUncachedBytesFromChannel()
+      throws Exception {
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setFooterPrefetchSizeSmallFile(prefetchSize).build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions)).thenReturn(mockChannel);
+    byte[] footerData = new byte[] {50, 51, 52, 53, 54, 55, 56, 57, 58, 59};
+    when(mockChannel.read(any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<ByteBuffer>getArgument(0).put(footerData);
+              return prefetchSize;
+            });
+    List<GcsObjectRange> channelRanges = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              List<GcsObjectRange> ranges = invocation.getArgument(0);
+              for (GcsObjectRange range : ranges) {
+                channelRanges.add(range);
+                byte[] rangeData = new byte[range.getLength()];
+                Arrays.fill(rangeData, (byte) 1);
+                range.getByteBufferFuture().complete(ByteBuffer.wrap(rangeData));
+              }
+              return null;
+            })
+        .when(mockChannel)
+        .readVectored(anyList(), any(), any());
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+    googleCloudStorageInputStream.seek(fileSize - prefetchSize);
+    googleCloudStorageInputStream.read(); // caches the footer
+    GcsObjectRange cachedRange = createGcsObjectRange(/* offset= */ 995, /* length= */ 3);
+    GcsObjectRange overlappingRange = createGcsObjectRange(/* offset= */ 988, /* length= */ 4);
+    GcsObjectRange uncachedRange = createGcsObjectRange(/* offset= */ 100, /* length= */ 2);
+
+    googleCloudStorageInputStream.readVectored(
+        List.of(cachedRange, overlappingRange, uncachedRange), ByteBuffer::allocate);
+
+    assertThat(toByteArray(cachedRange)).isEqualTo(new byte[] {55, 56, 57});
+    assertThat(toByteArray(overlappingRange)).isEqualTo(new byte[] {1, 1, 50, 51});
+    assertThat(toByteArray(uncachedRange)).isEqualTo(new byte[] {1, 1});
+    assertThat(channelRanges).hasSize(2);
+    assertThat(channelRanges.get(0).getOffset()).isEqualTo(988);
+    assertThat(channelRanges.get(0).getLength()).isEqualTo(2);
+    assertThat(channelRanges.get(1)).isSameInstanceAs(uncachedRange);
+  }
+
+  @Test
+  void readVectored_rangeOverlappingPrefetchedFooter_readsHeadIntoRangeBuffer() throws Exception {
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setFooterPrefetchSizeSmallFile(prefetchSize).build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions)).thenReturn(mockChannel);
+    byte[] footerData = new byte[] {50, 51, 52, 53, 54, 55, 56, 57, 58, 59};
+    when(mockChannel.read(any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<ByteBuffer>getArgument(0).put(footerData);
+              return prefetchSize;
+            });
+    doAnswer(
+            invocation -> {
+              GcsObjectRange head = invocation.<List<GcsObjectRange>>getArgument(0).get(0);
+              ByteBuffer headBuffer =
+                  invocation.<IntFunction<ByteBuffer>>getArgument(1).apply(head.getLength());
+              headBuffer.put(new byte[] {1, 2});
+              headBuffer.flip();
+              head.getByteBufferFuture().complete(headBuffer);
+              return null;
+            })
+        .when(mockChannel)
+        .readVectored(anyList(), any(), any());
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+    googleCloudStorageInputStream.seek(fileSize - prefetchSize);
+    googleCloudStorageInputStream.read(); // caches the footer
+    GcsObjectRange overlappingRange = createGcsObjectRange(/* offset= */ 988, /* length= */ 4);
+    List<ByteBuffer> allocatedBuffers = new ArrayList<>();
+
+    googleCloudStorageInputStream.readVectored(
+        List.of(overlappingRange),
+        size -> {
+          ByteBuffer buffer = ByteBuffer.allocate(size);
+          allocatedBuffers.add(buffer);
+          return buffer;
+        });
+
+    assertThat(toByteArray(overlappingRange)).isEqualTo(new byte[] {1, 2, 50, 51});
+    assertThat(allocatedBuffers).hasSize(1);
+    assertThat(overlappingRange.getByteBufferFuture().get())
+        .isSameInstanceAs(allocatedBuffers.get(0));
+  }
+
+  @Test
+  void readVectored_rangeOverlappingFooterCancelled_cancelsHeadReadAndReleasesBuffer()
+      throws Exception {
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setFooterPrefetchSizeSmallFile(prefetchSize).build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions)).thenReturn(mockChannel);
+    when(mockChannel.read(any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<ByteBuffer>getArgument(0).put(new byte[prefetchSize]);
+              return prefetchSize;
+            });
+    List<GcsObjectRange> channelRanges = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              channelRanges.addAll(invocation.getArgument(0));
+              return null;
+            })
+        .when(mockChannel)
+        .readVectored(anyList(), any(), any());
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+    googleCloudStorageInputStream.seek(fileSize - prefetchSize);
+    googleCloudStorageInputStream.read(); // caches the footer
+    GcsObjectRange overlappingRange = createGcsObjectRange(/* offset= */ 985, /* length= */ 10);
+    List<ByteBuffer> releasedBuffers = new ArrayList<>();
+    googleCloudStorageInputStream.readVectored(
+        List.of(overlappingRange), ByteBuffer::allocate, releasedBuffers::add);
+
+    overlappingRange.getByteBufferFuture().cancel(true);
+
+    assertThat(channelRanges).hasSize(1);
+    assertThat(channelRanges.get(0).getByteBufferFuture().isCancelled()).isTrue();
+    assertThat(releasedBuffers).hasSize(1);
+  }
+
+  @Test
+  void readVectored_headOfRangeOverlappingFooterFails_completesRangeExceptionally()
+      throws Exception {
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setFooterPrefetchSizeSmallFile(prefetchSize).build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions)).thenReturn(mockChannel);
+    when(mockChannel.read(any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<ByteBuffer>getArgument(0).put(new byte[prefetchSize]);
+              return prefetchSize;
+            });
+    doAnswer(
+            invocation -> {
+              List<GcsObjectRange> ranges = invocation.getArgument(0);
+              ranges.get(0).getByteBufferFuture().completeExceptionally(new EOFException("eof"));
+              return null;
+            })
+        .when(mockChannel)
+        .readVectored(anyList(), any(), any());
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+    googleCloudStorageInputStream.seek(fileSize - prefetchSize);
+    googleCloudStorageInputStream.read(); // caches the footer
+    GcsObjectRange overlappingRange = createGcsObjectRange(/* offset= */ 985, /* length= */ 10);
+
+    googleCloudStorageInputStream.readVectored(List.of(overlappingRange), ByteBuffer::allocate);
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> overlappingRange.getByteBufferFuture().get());
+    assertThat(exception).hasCauseThat().isInstanceOf(EOFException.class);
+  }
+
+  @Test
+  void create_footerPrefetchAsyncEnabled_servesTailFromBackgroundPrefetch() throws IOException {
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder()
+            .setFooterPrefetchSizeSmallFile(prefetchSize)
+            .setFooterPrefetchAsyncEnabled(true)
+            .build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions)).thenReturn(mockChannel);
+    byte[] footerData = new byte[] {50, 51, 52, 53, 54, 55, 56, 57, 58, 59};
+    List<GcsObjectRange> prefetchRanges = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              List<GcsObjectRange> ranges = invocation.getArgument(0);
+              prefetchRanges.addAll(ranges);
+              ranges.get(0).getByteBufferFuture().complete(ByteBuffer.wrap(footerData));
+              return null;
+            })
+        .when(mockChannel)
+        .readVectoredHighPriority(anyList(), any());
+
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+    googleCloudStorageInputStream.seek(995L);
+    int firstByte = googleCloudStorageInputStream.read();
+
+    assertThat(firstByte).isEqualTo(55);
+    assertThat(prefetchRanges).hasSize(1);
+    assertThat(prefetchRanges.get(0).getOffset()).isEqualTo(fileSize - prefetchSize);
+    assertThat(prefetchRanges.get(0).getLength()).isEqualTo(prefetchSize);
+    verify(mockChannel, never()).read(any(ByteBuffer.class));
+  }
+
+  @Test
+  void read_footerPrefetchAsyncFailed_fetchesFooterSynchronously() throws IOException {
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder()
+            .setFooterPrefetchSizeSmallFile(prefetchSize)
+            .setFooterPrefetchAsyncEnabled(true)
+            .build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions)).thenReturn(mockChannel);
+    doAnswer(
+            invocation -> {
+              List<GcsObjectRange> ranges = invocation.getArgument(0);
+              ranges.get(0).getByteBufferFuture().completeExceptionally(new IOException("failed"));
+              return null;
+            })
+        .when(mockChannel)
+        .readVectoredHighPriority(anyList(), any());
+    byte[] footerData = new byte[] {50, 51, 52, 53, 54, 55, 56, 57, 58, 59};
+    when(mockChannel.read(any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<ByteBuffer>getArgument(0).put(footerData);
+              return prefetchSize;
+            });
+
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+    googleCloudStorageInputStream.seek(995L);
+    int firstByte = googleCloudStorageInputStream.read();
+
+    assertThat(firstByte).isEqualTo(55);
+    verify(mockChannel).read(any(ByteBuffer.class));
+  }
+
+  @Test
+  void create_footerPrefetchAsyncDisabled_doesNotPrefetch() throws IOException {
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setFooterPrefetchSizeSmallFile(prefetchSize).build();
+    when(mockClientOptions.getGcsReadOptions()).thenReturn(readOptions);
+    when(mockFileSystem.open(mockGcsFileInfo, readOptions)).thenReturn(mockChannel);
+
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(mockFileSystem, testUri);
+
+    verify(mockChannel, never()).readVectoredHighPriority(anyList(), any());
+  }
+
   @Test
   void read_fromHead_smallObjectCachingEnabled_objectSmall_caches() throws IOException {
     GcsFileSystemOptions options =
@@ -1259,6 +1690,52 @@ class GoogleCloudStorageInputStreamTest {
     assertTargetByteBufferPresentAtOffset(data, readBuffer, 0, bytesRead);
   }
 
+  @Test
+  void read_footerCacheEnabled_secondStreamServesTailFromSharedCache() throws IOException {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.createFromOptions(
+            Map.of("analytics-core.footer.cache.max-size-bytes", "1048576"), "");
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("footer-object").build();
+    byte[] data = TestDataGenerator.createGcsData(itemId, 1024);
+    FakeGcsFileSystemImpl fakeGcsFileSystem = new FakeGcsFileSystemImpl(options);
+    URI uri = URI.create("gs://test-bucket/footer-object");
+    GoogleCloudStorageInputStream firstStream =
+        GoogleCloudStorageInputStream.create(fakeGcsFileSystem, uri);
+    GoogleCloudStorageInputStream secondStream =
+        GoogleCloudStorageInputStream.create(fakeGcsFileSystem, uri);
+    firstStream.read(); // caches the object tail
+    FakeGcsClientImpl.storage.delete("test-bucket", "footer-object");
+
+    ByteBuffer readBuffer = ByteBuffer.allocate(data.length);
+    int bytesRead = secondStream.read(readBuffer);
+
+    assertThat(fakeGcsFileSystem.getFooterCache().get().size()).isEqualTo(1);
+    assertThat(bytesRead).isEqualTo(data.length);
+    readBuffer.flip();
+    assertTargetByteBufferPresentAtOffset(data, readBuffer, 0, bytesRead);
+  }
+
+  @Test
+  void close_bufferPoolEnabled_returnsPrefetchBufferToPool() throws IOException {
+    GcsFileSystemOptions options =
+        GcsFileSystemOptions.createFromOptions(
+            Map.of("analytics-core.buffer-pool.max-size-bytes", "1048576"), "");
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("pooled-object").build();
+    byte[] data = TestDataGenerator.createGcsData(itemId, 1024);
+    FakeGcsFileSystemImpl fakeGcsFileSystem = new FakeGcsFileSystemImpl(options);
+    GoogleCloudStorageInputStream stream =
+        GoogleCloudStorageInputStream.create(
+            fakeGcsFileSystem, URI.create("gs://test-bucket/pooled-object"));
+
+    int firstByte = stream.read(); // caches the object tail in a pooled buffer
+    stream.close();
+
+    assertThat(firstByte).isEqualTo(data[0] & 0xFF);
+    assertThat(fakeGcsFileSystem.getBufferPool().get().getPooledBytes()).isGreaterThan(0L);
+  }
+
   private void mockChannelReadToWriteBytes(VectoredSeekableByteChannel mockChannel, byte[] data)
       throws IOException {
     when(mockChannel.read(any(ByteBuffer.class)))
@@ -1283,6 +1760,13 @@ class GoogleCloudStorageInputStreamTest {
     assertThat(sourceSlice.equals(target)).isTrue();
   }
 
+  private static byte[] toByteArray(GcsObjectRange range) throws Exception {
+    ByteBuffer buffer = range.getByteBufferFuture().get();
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
   private GcsObjectRange createGcsObjectRange(long offset, int length) {
     return GcsObjectRange.builder()
         .setOffset(offset)